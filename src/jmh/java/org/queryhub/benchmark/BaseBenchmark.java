@@ -0,0 +1,67 @@
+package org.queryhub.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Defines general settings and resources for the implementing benchmark classes.
+ * <p>
+ * Every benchmark is measured both for throughput and sampled latency, so the percentiles are
+ * reported alongside the operations per time unit. Allocation per statement is reported by the
+ * {@code gc} profiler, which is enabled by default by the {@code jmh} task.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+abstract class BaseBenchmark {
+
+  static final String TABLE_1 = "table_1";
+  static final String TABLE_2 = "table_2";
+  static final String FIELD_1 = "field_1";
+  static final String FIELD_2 = "field_2";
+  static final String VALUE_1 = "value_1";
+  static final String VALUE_2 = "value_2";
+
+  /**
+   * Produces a sequence of distinct column-like names.
+   *
+   * @param size Amount of names to be produced.
+   * @return Names with the {@code field_} prefix, suffixed by their index.
+   * @since 0.1.0
+   */
+  static String[] names(final int size) {
+    final var names = new String[size];
+    for (var i = 0; i < size; i++) {
+      names[i] = "field_" + i;
+    }
+    return names;
+  }
+
+  /**
+   * Produces a sequence of distinct numeric values.
+   *
+   * @param size Amount of values to be produced.
+   * @return Boxed values, starting from an arbitrary large key.
+   * @since 0.1.0
+   */
+  static Long[] numbers(final int size) {
+    final var numbers = new Long[size];
+    for (var i = 0; i < size; i++) {
+      numbers[i] = 1_000_000_000L + i;
+    }
+    return numbers;
+  }
+}
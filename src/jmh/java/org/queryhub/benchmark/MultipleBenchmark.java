@@ -0,0 +1,194 @@
+package org.queryhub.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.queryhub.Query;
+import org.queryhub.Rope;
+import org.queryhub.field.Field;
+import org.queryhub.field.LongList;
+import org.queryhub.field.Multiple;
+import org.queryhub.field.Single;
+import org.queryhub.steps.Statement;
+import org.queryhub.steps.Where.InList;
+import org.queryhub.steps.Where.InList.Strategy;
+
+/**
+ * Measures statements carrying large {@link Multiple} values, which stresses the variadic
+ * rendering and the string mutations over each item.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public class MultipleBenchmark extends BaseBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  private int size;
+
+  private long number;
+  private Number[] numbers;
+  private String name;
+  private String[] names;
+  private List<Field> rows;
+  private long[] primitives;
+  private LongList list;
+
+  /**
+   * @since 0.1.0
+   */
+  @Setup
+  public final void prepareScenario() {
+    final var n = numbers(size);
+    number = n[0];
+    numbers = Arrays.copyOfRange(n, 1, n.length);
+    final var s = names(size);
+    name = s[0];
+    names = Arrays.copyOfRange(s, 1, s.length);
+    primitives = Arrays.stream(n).mapToLong(Long::longValue).toArray();
+    list = new LongList(size);
+    rows = new ArrayList<>(size);
+    for (var i = 0; i < size; i++) {
+      rows.add(Multiple.of(n[i], i, size - i));
+    }
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_withNumericInList() {
+    return Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(number, numbers))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_withNumericInList_split() {
+    return Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(number, numbers), InList.of(1_000, Strategy.SPLIT))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final Statement select_withNumericInList_array() {
+    return Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(number, numbers), InList.of(1_000, Strategy.ARRAY))
+      .prepare();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_withTextualInList() {
+    return Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_2), Multiple.of(name, names))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String insert_wideRow() {
+    return Query
+      .insert(Single.of(TABLE_1))
+      .values(Multiple.of(name, names))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final List<String> insert_batch() {
+    return Query
+      .insert(Single.of(TABLE_1))
+      .values(rows)
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final long insert_sink() throws IOException {
+    return Query
+      .insert(Single.of(TABLE_1))
+      .sink()
+      .writeTo(Writer.nullWriter(), rows.iterator());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String field_numericMultiple() {
+    return Multiple.of(number, numbers).get();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String field_primitiveMultiple() {
+    return Multiple.of(primitives).get();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_withPrimitiveInList_reusedList() {
+    return Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(list.clear().addAll(primitives)))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String field_textualMultiple() {
+    return Multiple.of(name, names).get();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final Rope select_withPrimitiveInList_rope() {
+    return Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(primitives))
+      .renderTo(new Rope());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final Rope select_withPrimitiveInList_parallelRope() {
+    return Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(primitives))
+      .renderTo(new Rope().parallel(ForkJoinPool.commonPool()));
+  }
+}
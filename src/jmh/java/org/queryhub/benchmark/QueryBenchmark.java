@@ -0,0 +1,255 @@
+package org.queryhub.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.queryhub.Builder;
+import org.queryhub.Cache;
+import org.queryhub.Query;
+import org.queryhub.Template;
+import org.queryhub.field.Multiple;
+import org.queryhub.field.Parameter;
+import org.queryhub.field.Single;
+import org.queryhub.steps.Sort.Aggregate;
+import org.queryhub.steps.Sort.Order;
+import org.queryhub.steps.Sort.Type;
+import org.queryhub.steps.Statement;
+import org.queryhub.steps.Where;
+import org.queryhub.steps.Where.Relation;
+
+/**
+ * Measures every {@link Query}'s entry point with small, point-like statements, plus the {@code
+ * WHERE}, {@code ORDER BY} and {@code LIMIT} chains and a wide projection.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public class QueryBenchmark extends BaseBenchmark {
+
+  private static final int WIDE = 64;
+
+  private String column;
+  private String[] columns;
+  private Statement statement;
+  private Template template;
+  private StringBuilder builder;
+  private Cache cache;
+  private ByteBuffer buffer;
+  private Where.Mixin prefix;
+
+  /**
+   * @since 0.1.0
+   */
+  @Setup
+  public final void prepareScenario() {
+    final var names = names(WIDE);
+    column = names[0];
+    columns = Arrays.copyOfRange(names, 1, names.length);
+    statement = Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_2), Relation.GTE, Single.of(42L))
+      .prepare();
+    template = Query.template(Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_2), Relation.GTE, Parameter.of(FIELD_2)));
+    builder = new StringBuilder(256);
+    cache = Cache.of(64);
+    buffer = ByteBuffer.allocateDirect(256);
+    prefix = Query
+      .select(Single.of(TABLE_1), Multiple.of(column, columns))
+      .where(Single.of(FIELD_1), Relation.GT, Single.of(VALUE_1))
+      .and(Single.of(FIELD_2), Relation.LIKE, Single.of(VALUE_2));
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_pointQuery() {
+    return Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_2), Relation.GTE, Single.of(42L))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final StringBuilder select_pointQuery_renderTo() {
+    builder.setLength(0);
+    return Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_2), Relation.GTE, Single.of(42L))
+      .renderTo(builder);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final byte[] select_pointQuery_getBytes() {
+    return Query
+      .select(Single.identifier(TABLE_1), Single.identifier(FIELD_1))
+      .where(Single.identifier(FIELD_2), Relation.GTE, Single.of(42L))
+      .build()
+      .getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final ByteBuffer select_pointQuery_byteBuffer() {
+    buffer.clear();
+    return Query
+      .select(Single.identifier(TABLE_1), Single.identifier(FIELD_1))
+      .where(Single.identifier(FIELD_2), Relation.GTE, Single.of(42L))
+      .renderTo(buffer);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_pointQuery_identifiers() {
+    return Query
+      .select(Single.identifier(TABLE_1), Single.identifier(FIELD_1))
+      .where(Single.identifier(FIELD_2), Relation.GTE, Single.of(42L))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_pointQuery_cached() {
+    return Query
+      .select(Single.identifier(TABLE_1), Single.identifier(FIELD_1))
+      .where(Single.identifier(FIELD_2), Relation.GTE, Single.of(42L))
+      .build(cache);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_pointQuery_rebound() {
+    return statement.bind(42L).inline();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_pointQuery_template() {
+    return template.bind(FIELD_2, 42L).build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_wideProjection() {
+    return Query
+      .select(Single.of(TABLE_1), Multiple.of(column, columns))
+      .where(Single.of(FIELD_1), Relation.LT, Single.of(VALUE_1))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_withConditions_and_sort() {
+    return Query
+      .select(Single.of(TABLE_1), Multiple.of(FIELD_1, FIELD_2))
+      .where(Single.of(FIELD_1), Relation.GT, Single.of(VALUE_1))
+      .and(Single.of(FIELD_2), Relation.LIKE, Single.of(VALUE_2))
+      .or(Single.of(FIELD_1), Query.select(Single.of(TABLE_2), Single.of(FIELD_1)))
+      .sort(Type.ORDER_BY, Aggregate.of(FIELD_1), Aggregate.of(FIELD_2, Order.DESC))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_forkedPrefix() {
+    return Query.fork(prefix)
+      .sort(Type.ORDER_BY, Aggregate.of(FIELD_1), Aggregate.of(FIELD_2, Order.DESC))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String select_withLimit() {
+    return Query
+      .select(Single.of(TABLE_1), Multiple.of(FIELD_1, FIELD_2))
+      .where(Single.of(FIELD_1), Relation.GT, Single.of(VALUE_1))
+      .limit(10, 20)
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String insert_singleRow() {
+    return Query
+      .insert(Single.of(TABLE_1))
+      .values(Multiple.of(VALUE_1, VALUE_2))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String insert_singleRow_reused() {
+    return Builder.local()
+      .insert(Single.of(TABLE_1))
+      .values(Multiple.of(VALUE_1, VALUE_2))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final StringBuilder insert_singleRow_reused_renderTo() {
+    builder.setLength(0);
+    return Builder.local()
+      .insert(Single.of(TABLE_1))
+      .values(Multiple.of(VALUE_1, VALUE_2))
+      .renderTo(builder);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String update_withCondition() {
+    return Query
+      .update(Single.of(TABLE_1))
+      .set(Single.of(FIELD_1), Single.of(VALUE_1))
+      .and(Single.of(FIELD_2), Single.of(VALUE_2))
+      .where(Single.of(FIELD_1), Relation.NEQ, Single.of(VALUE_2))
+      .build();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final String delete_withCondition() {
+    return Query
+      .delete(Single.of(TABLE_1))
+      .where(Single.of(FIELD_1), Relation.LTE, Single.of(42L))
+      .build();
+  }
+}
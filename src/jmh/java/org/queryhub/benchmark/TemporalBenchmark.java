@@ -0,0 +1,90 @@
+package org.queryhub.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.queryhub.Query;
+import org.queryhub.field.Field;
+import org.queryhub.field.Multiple;
+import org.queryhub.field.Single;
+
+/**
+ * Measures date/time literals over a time-series insert workload, where each row carries the
+ * timestamps of a measurement interval, against the {@link DateTimeFormatter formatter} they were
+ * formerly rendered with.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public class TemporalBenchmark extends BaseBenchmark {
+
+  private static final DateTimeFormatter FORMATTER =
+    DateTimeFormatter.ofPattern("YYYY-MM-dd hh:mm:ss");
+
+  @Param({"16", "1024", "65536"})
+  private int size;
+
+  private LocalDateTime[] timestamps;
+  private LocalDateTime[] following;
+  private List<Field> rows;
+  private StringBuilder builder;
+
+  /**
+   * @since 0.1.0
+   */
+  @Setup
+  public final void prepareScenario() {
+    final var start = LocalDateTime.of(2019, 12, 11, 0, 0);
+    timestamps = new LocalDateTime[size];
+    rows = new ArrayList<>(size);
+    for (var i = 0; i < size; i++) {
+      timestamps[i] = start.plus(i * 250L, ChronoUnit.MILLIS);
+      rows.add(Multiple.of(timestamps[i], timestamps[i].plusSeconds(1)));
+    }
+    following = Arrays.copyOfRange(timestamps, 1, size);
+    builder = new StringBuilder(size * 32);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final int literals_formatter() {
+    builder.setLength(0);
+    for (var i = 0; i < size; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append('\'');
+      FORMATTER.formatTo(timestamps[i], builder);
+      builder.append('\'');
+    }
+    return builder.length();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final int literals_encoder() {
+    builder.setLength(0);
+    return Multiple.of(timestamps[0], following).renderTo(builder).length();
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Benchmark
+  public final List<String> insert_timeSeries() {
+    return Query
+      .insert(Single.of(TABLE_1))
+      .values(rows)
+      .build();
+  }
+}
@@ -5,8 +5,10 @@
 module queryhub.core {
 
   requires java.base;
+  requires transitive java.sql;
 
   exports org.queryhub;
   exports org.queryhub.field;
+  exports org.queryhub.jdbc;
   exports org.queryhub.steps;
 }
\ No newline at end of file
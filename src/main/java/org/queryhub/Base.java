@@ -1,14 +1,28 @@
 package org.queryhub;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.StringJoiner;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
 import org.queryhub.field.Field;
+import org.queryhub.field.Parameter;
+import org.queryhub.field.Single;
 import org.queryhub.helper.Helper;
 import org.queryhub.helper.KeyWord;
-import org.queryhub.helper.Mutator;
-import org.queryhub.helper.Variadic;
+import org.queryhub.helper.Utf8;
+import org.queryhub.steps.Batch;
+import org.queryhub.steps.Sink;
+import org.queryhub.steps.Statement;
 import org.queryhub.steps.Terminal;
+import org.queryhub.steps.Terminal.Select;
+import org.queryhub.steps.Where.InList;
+import org.queryhub.steps.Where.InList.Strategy;
 
 /**
  * General abstraction for {@link Query}'s implementations. Provides resources for implementations
@@ -20,13 +34,16 @@ import org.queryhub.steps.Terminal;
  */
 abstract class Base<B extends Base<B>> implements Query, Terminal {
 
-  private static final String SPACE = " ";
-  private static final String END = ";";
+  private static final int NODE_LENGTH = 16;
+  private static final Map<KeyWord, Node> KEYWORDS = new ConcurrentHashMap<>();
 
-  private final StringJoiner joiner = new StringJoiner(SPACE);
+  private final List<Node> nodes = new ArrayList<>();
 
   private boolean isClosed = Boolean.FALSE;
-  private int hashCode;
+  private boolean isPure = Boolean.TRUE;
+  private int fingerprint = 1;
+  private Prefix prefix;
+  private StringBuilder buffer;
 
   /**
    * The first string to be set into the statement builder should always be a {@link KeyWord}.
@@ -38,6 +55,22 @@ abstract class Base<B extends Base<B>> implements Query, Terminal {
     this.add(keyword);
   }
 
+  /**
+   * Copies the given statement's parts, which are shared with it from now on as an already
+   * rendered prefix.
+   *
+   * @param origin The statement to be forked.
+   * @throws IllegalStateException if the statement's building is already finished.
+   * @since 0.1.0
+   */
+  Base(final Base<B> origin) {
+    Helper.throwIf(IllegalStateException::new, origin.isClosed);
+    this.prefix = origin.share();
+    this.nodes.addAll(origin.nodes);
+    this.isPure = origin.isPure;
+    this.fingerprint = origin.fingerprint;
+  }
+
   /**
    * Utility method to provide own instance. Useful for using in combination with this class'
    * another utility methods.
@@ -48,6 +81,19 @@ abstract class Base<B extends Base<B>> implements Query, Terminal {
   abstract B self();
 
   /**
+   * Produces an independent copy of this statement, which can be built further without affecting
+   * this one. Both statements share the parts set so far, which are rendered only once.
+   *
+   * @return A new statement building instance.
+   * @throws IllegalStateException if the statement's building is already finished.
+   * @since 0.1.0
+   */
+  abstract B fork();
+
+  /**
+   * Statements are equal when they are made of equal parts, set in the same order, and both are
+   * either finished or not.
+   *
    * @since 0.1.0
    */
   @Override
@@ -57,18 +103,20 @@ abstract class Base<B extends Base<B>> implements Query, Terminal {
       return Boolean.FALSE;
     }
     final var b = (Base<B>) o;
-    return this.isClosed == b.isClosed && this.joiner.equals(b.joiner);
+    return this.isClosed == b.isClosed && this.fingerprint == b.fingerprint
+      && this.nodes.equals(b.nodes);
   }
 
   /**
+   * The hash code is updated as each part is set, so it is never computed over the whole
+   * statement. Therefore, it changes as the statement is built, and the statement should not be
+   * modified while it is kept into hash-based collections.
+   *
    * @since 0.1.0
    */
   @Override
   public final int hashCode() {
-    if (hashCode == 0) {
-      hashCode = Objects.hash(joiner, isClosed);
-    }
-    return hashCode;
+    return 31 * fingerprint + Boolean.hashCode(isClosed);
   }
 
   // Terminal
@@ -90,9 +138,156 @@ abstract class Base<B extends Base<B>> implements Query, Terminal {
    */
   @Override
   public final String build(final boolean withSemiColon) {
+    if (buffer == null) {
+      return this.renderTo(new StringBuilder(this.length()), withSemiColon).toString();
+    }
+    buffer.setLength(0);
+    return this.renderTo(buffer, withSemiColon).toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final String build(final Cache cache) {
+    return this.build(cache, Boolean.TRUE);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final String build(final Cache cache, final boolean withSemiColon) {
+    if (!isPure) {
+      return this.build(withSemiColon);
+    }
+    this.close();
+    return cache.get(new Cache.Shape(this.nodes, withSemiColon, this.fingerprint),
+      () -> this.render(new StringBuilder(this.length()), withSemiColon).toString());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final StringBuilder renderTo(final StringBuilder builder) {
+    return this.renderTo(builder, Boolean.TRUE);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final StringBuilder renderTo(final StringBuilder builder, final boolean withSemiColon) {
+    this.close();
+    return this.render(builder, withSemiColon);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final ByteBuffer renderTo(final ByteBuffer buffer) {
+    return this.renderTo(buffer, Boolean.TRUE);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final ByteBuffer renderTo(final ByteBuffer buffer, final boolean withSemiColon) {
     Helper.throwIf(IllegalStateException::new, isClosed);
-    this.isClosed = Boolean.TRUE;
-    return withSemiColon ? this.joiner.toString() + END : this.joiner.toString();
+    final var position = buffer.position();
+    try {
+      this.write(new Utf8(buffer), withSemiColon).finish();
+    } catch (final BufferOverflowException e) {
+      buffer.position(position);
+      throw e;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    this.close();
+    return buffer;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Rope renderTo(final Rope rope) {
+    return this.renderTo(rope, Boolean.TRUE);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Rope renderTo(final Rope rope, final boolean withSemiColon) {
+    this.close();
+    try {
+      return this.write(rope, withSemiColon);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final <A extends Appendable> A appendTo(final A output) throws IOException {
+    return this.appendTo(output, Boolean.TRUE);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final <A extends Appendable> A appendTo(final A output, final boolean withSemiColon)
+    throws IOException {
+    this.close();
+    return this.write(output, withSemiColon);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Statement prepare() {
+    return this.prepare(Boolean.TRUE);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Statement prepare(final boolean withSemiColon) {
+    this.close();
+    return Tree.of(this.nodes, withSemiColon);
   }
 
   /**
@@ -111,42 +306,353 @@ abstract class Base<B extends Base<B>> implements Query, Terminal {
   // Package-private
 
   /**
-   * Adds the given {@link Field}'s string representation into the {@link #joiner statement
-   * builder}.
+   * Adds the given {@link Field}'s string representation into the {@link #nodes statement's
+   * tree}. The fields are always inlined, even when the statement is {@link #prepare() prepared},
+   * and their string representation is only written when the statement is rendered.
    *
    * @param field A field to be set.
    * @return Current statement building instance.
    * @since 0.1.0
    */
   final B add(final Field field, final Field... fields) {
-    Variadic.asString(Field::get).andThen(this.joiner::add).apply(field, fields);
+    this.push(Node.fields(field, fields));
     return self();
   }
 
   /**
-   * Adds the given {@link KeyWord}'s string representation into the {@link #joiner statement
-   * builder}.
+   * Adds the given constant text node into the {@link #nodes statement's tree}.
+   *
+   * @param text A constant text node, such as an operator.
+   * @return Current statement building instance.
+   * @since 0.1.0
+   */
+  final B add(final Node text) {
+    this.push(text);
+    return self();
+  }
+
+  /**
+   * Discards the statement under construction, starting a new one over this instance. The
+   * capacity allocated so far is kept.
+   *
+   * @param keyword The new statement's first keyword.
+   * @return Current statement building instance.
+   * @since 0.1.0
+   */
+  final B reset(final Keys keyword) {
+    this.nodes.clear();
+    this.isClosed = Boolean.FALSE;
+    this.isPure = Boolean.TRUE;
+    this.fingerprint = 1;
+    this.prefix = null;
+    return this.add(keyword);
+  }
+
+  /**
+   * Keeps the builder {@link #build() built} statements are rendered into, so it is reused by the
+   * statements {@link #reset(Keys) started} over this instance.
+   *
+   * @return Current statement building instance.
+   * @since 0.1.0
+   */
+  final B retain() {
+    if (buffer == null) {
+      this.buffer = new StringBuilder();
+    }
+    return self();
+  }
+
+  /**
+   * Adds the given {@link KeyWord}'s string representation into the {@link #nodes statement's
+   * tree}.
    *
    * @param keyWord A keyword to be set.
    * @return Current statement building instance.
    * @since 0.1.0
    */
   final <K extends Enum<K> & KeyWord> B add(final K keyWord) {
-    this.joiner.add(keyWord.keyWord());
+    this.push(KEYWORDS.computeIfAbsent(keyWord, Base::keyWord));
+    return self();
+  }
+
+  /**
+   * Adds the given value into the {@link #nodes statement's tree}. Unlike {@link #add(Field,
+   * Field...)}, the value's {@link Field#parameters() parameters} are replaced by placeholders when
+   * the statement is {@link #prepare() prepared}.
+   *
+   * @param value A value to be set.
+   * @return Current statement building instance.
+   * @since 0.1.0
+   */
+  final B bind(final Field value) {
+    this.push(Node.value(value, Boolean.FALSE));
+    return self();
+  }
+
+  /**
+   * Encloses the string representation from a value within parenthesis. The value is handled as
+   * set by {@link #bind(Field)}.
+   *
+   * @param value A value to be set.
+   * @return Current statement building instance.
+   * @since 0.1.0
+   */
+  final B enclose(final Field value) {
+    this.push(Node.value(value, Boolean.TRUE));
     return self();
   }
 
   /**
-   * Encloses the string representation from a value within parenthesis.
+   * Adds an {@code IN} operation between a reference and a list of values into the {@link #nodes
+   * statement's tree}, rendered and padded according to the given strategy. Values without {@link
+   * Field#parameters() parameters} are always rendered inline.
    *
-   * @param val    A value to be set.
-   * @param mapper A mapping function to supply a string representation.
-   * @param <T>    A type to be shared between parameters.
+   * @param reference The reference field in the operation.
+   * @param values    The list of values.
+   * @param inList    How the list of values is rendered.
    * @return Current statement building instance.
    * @since 0.1.0
    */
-  final <T> B enclose(final T val, final Function<T, String> mapper) {
-    Mutator.ADD_PARENTHESIS.compose(mapper).andThen(this.joiner::add).apply(val);
+  final B in(final Single reference, final Field values, final InList inList) {
+    final var parameters = values instanceof Parameter ? List.of() : values.parameters();
+    final var strategy = inList.strategy(parameters.size());
+    final var size = inList.pad(parameters.size());
+    if (strategy == Strategy.INLINE && size == parameters.size()) {
+      return this.add(reference).add(Keys.IN).enclose(values);
+    }
+    if (strategy == Strategy.INLINE) {
+      this.add(reference).add(Keys.IN);
+      this.push(Node.values(padded(parameters, size), Boolean.TRUE));
+    } else {
+      this.push(Node.in(reference, padded(parameters, size), strategy, inList.threshold()));
+    }
+    return self();
+  }
+
+  /**
+   * Encloses the string representation from a nested statement within parenthesis. Then, the
+   * nested statement is finished and its tree is carried over.
+   *
+   * @param clause A nested statement to be set.
+   * @return Current statement building instance.
+   * @throws IllegalStateException if the nested statement is already finished.
+   * @since 0.1.0
+   */
+  final B enclose(final Select clause) {
+    this.push(Node.nested((Tree) clause.prepare(Boolean.FALSE)));
     return self();
   }
+
+  /**
+   * Finishes the statement building, carrying its tree over to a {@link Batch batch} of
+   * statements, one for each chunk of rows.
+   *
+   * @param rows   The rows to be appended to the statement.
+   * @param limits Limits for each of the resulting statements.
+   * @return A batch of statements.
+   * @throws IllegalArgumentException if there are no rows.
+   * @throws IllegalStateException    if the statement building is already finished.
+   * @since 0.1.0
+   */
+  final Batch chunk(final Iterable<? extends Field> rows, final Batch.Limits limits) {
+    this.close();
+    return Chunked.of(this.nodes, rows, limits);
+  }
+
+  /**
+   * Finishes the statement building, carrying its tree over to a {@link Sink sink} of rows.
+   *
+   * @param limits Limits for each of the written statements.
+   * @return A sink of rows.
+   * @throws IllegalStateException if the statement building is already finished.
+   * @since 0.1.0
+   */
+  final Sink stream(final Batch.Limits limits) {
+    this.close();
+    return Streamed.of(this.nodes, limits);
+  }
+
+  // Private
+
+  /**
+   * Pads a list up to the given size by repeating its last value.
+   *
+   * @param values A non-empty list.
+   * @param size   The padded size.
+   * @return An unmodifiable view of the list, or the list itself when already long enough.
+   * @since 0.1.0
+   */
+  private static List<?> padded(final List<?> values, final int size) {
+    if (size <= values.size()) {
+      return values;
+    }
+    return new AbstractList<>() {
+      @Override
+      public Object get(final int index) {
+        Objects.checkIndex(index, size);
+        return values.get(Math.min(index, values.size() - 1));
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  /**
+   * Produces a keyword's node, which is shared by every statement.
+   *
+   * @param keyWord A keyword.
+   * @return A constant text node.
+   * @since 0.1.0
+   */
+  private static Node keyWord(final KeyWord keyWord) {
+    return Node.text(keyWord.keyWord());
+  }
+
+  /**
+   * Estimates the statement's length, in order to size the builder it is rendered into.
+   *
+   * @return The rendered prefix's length, if any, plus an estimate for each further node.
+   * @since 0.1.0
+   */
+  private int length() {
+    if (prefix == null) {
+      return nodes.size() * NODE_LENGTH;
+    }
+    return prefix.rendered().length() + (nodes.size() - prefix.size()) * NODE_LENGTH;
+  }
+
+  /**
+   * Renders the statement with its values inlined, copying the shared prefix, if any, as it is.
+   *
+   * @param output        The statement being rendered.
+   * @param withSemiColon Indicates if trailing semicolon should be appended to the statement.
+   * @param <A>           The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  private <A extends Appendable> A write(final A output, final boolean withSemiColon)
+    throws IOException {
+    if (prefix == null) {
+      return Tree.appendTo(nodes, withSemiColon, output);
+    }
+    output.append(prefix.rendered());
+    return Tree.appendTo(nodes, prefix.size(), withSemiColon, output);
+  }
+
+  /**
+   * Renders the statement with its values inlined into the given builder.
+   *
+   * @param builder       The statement being rendered.
+   * @param withSemiColon Indicates if trailing semicolon should be appended to the statement.
+   * @return The given builder.
+   * @since 0.1.0
+   */
+  private StringBuilder render(final StringBuilder builder, final boolean withSemiColon) {
+    try {
+      return this.write(builder, withSemiColon);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Shares the parts set so far as a prefix, reusing the current one when no parts were set since
+   * it was produced.
+   *
+   * @return The shared prefix.
+   * @since 0.1.0
+   */
+  private Prefix share() {
+    if (prefix == null || prefix.size() != nodes.size()) {
+      this.prefix = new Prefix(List.copyOf(nodes), prefix);
+    }
+    return prefix;
+  }
+
+  /**
+   * Appends a node to the {@link #nodes statement's tree}, updating the statement's fingerprint in
+   * the same way as {@link List#hashCode()} does, so it is never computed over the whole tree.
+   *
+   * @param node The node to be appended.
+   * @since 0.1.0
+   */
+  private void push(final Node node) {
+    this.nodes.add(node);
+    this.fingerprint = 31 * fingerprint + node.hashCode();
+    this.isPure &= node.isPure();
+  }
+
+  /**
+   * Finishes the statement building.
+   *
+   * @throws IllegalStateException if the statement building is already finished.
+   * @since 0.1.0
+   */
+  private void close() {
+    Helper.throwIf(IllegalStateException::new, isClosed);
+    this.isClosed = Boolean.TRUE;
+  }
+
+  /**
+   * Leading parts shared by forked statements, which are rendered once, when first needed.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  private static final class Prefix {
+
+    private final List<Node> nodes;
+    private final Prefix parent;
+    private String rendered;
+
+    /**
+     * Default constructor.
+     *
+     * @param nodes  The shared parts.
+     * @param parent A shorter prefix of the same parts, whose rendering is reused, if any.
+     * @since 0.1.0
+     */
+    private Prefix(final List<Node> nodes, final Prefix parent) {
+      this.nodes = nodes;
+      this.parent = parent;
+    }
+
+    /**
+     * @return How many parts are shared.
+     * @since 0.1.0
+     */
+    private int size() {
+      return nodes.size();
+    }
+
+    /**
+     * Renders the shared parts. Concurrent calls may render them more than once, but always to
+     * the same string.
+     *
+     * @return The shared parts, rendered with their values inlined.
+     * @since 0.1.0
+     */
+    private String rendered() {
+      var text = rendered;
+      if (text == null) {
+        final var builder = new StringBuilder(size() * NODE_LENGTH);
+        try {
+          if (parent == null) {
+            Tree.appendTo(nodes, Boolean.FALSE, builder);
+          } else {
+            Tree.appendTo(nodes, parent.size(), Boolean.FALSE, builder.append(parent.rendered()));
+          }
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        text = builder.toString();
+        this.rendered = text;
+      }
+      return text;
+    }
+  }
 }
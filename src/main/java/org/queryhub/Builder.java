@@ -0,0 +1,99 @@
+package org.queryhub;
+
+import org.queryhub.field.Field;
+import org.queryhub.field.Single;
+import org.queryhub.steps.Insert;
+import org.queryhub.steps.Terminal.Select;
+import org.queryhub.steps.Update;
+import org.queryhub.steps.Where;
+
+/**
+ * Reusable entry point, for generating statements in tight loops. Unlike {@link Query}'s
+ * factories, each statement is started over the same building instance, which keeps the capacity
+ * allocated by the previous statements, as well as the buffer statements are rendered into:
+ * <p>
+ * <pre>{@code
+ *
+ *   final var builder = Builder.local();
+ *   for (final var row : rows) {
+ *     final var sql = builder.insert(Single.of("table_1")).values(row).build();
+ *     // ...
+ *   }
+ *
+ * }</pre>
+ * <p>
+ * Starting a statement discards the previous one, which should not be used afterwards. Therefore,
+ * nested statements should be produced by {@link Query}'s factories instead. Instances are not
+ * thread-safe, so each thread should use its {@link #local() own instance}.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public interface Builder {
+
+  /**
+   * Produces a reusable builder.
+   *
+   * @return A new builder, to be confined to a single thread.
+   * @since 0.1.0
+   */
+  static Builder of() {
+    return new Reused();
+  }
+
+  /**
+   * Supplies the current thread's builder.
+   *
+   * @return The same builder for each call from the same thread.
+   * @since 0.1.0
+   */
+  static Builder local() {
+    return Reused.LOCAL.get();
+  }
+
+  /**
+   * Starts an {@code INSERT} statement, discarding the previous one.
+   *
+   * @param table The same as {@link Query#insert(Single)}.
+   * @return The same as {@link Query#insert(Single)}.
+   * @since 0.1.0
+   */
+  Insert insert(final Single table);
+
+  /**
+   * Starts a {@code SELECT} statement, discarding the previous one.
+   *
+   * @param from   The same as {@link Query#select(Single, Field)}.
+   * @param fields The same as {@link Query#select(Single, Field)}.
+   * @return The same as {@link Query#select(Single, Field)}.
+   * @since 0.1.0
+   */
+  Select select(final Single from, final Field fields);
+
+  /**
+   * Starts an {@code UPDATE} statement, discarding the previous one.
+   *
+   * @param table The same as {@link Query#update(Single)}.
+   * @return The same as {@link Query#update(Single)}.
+   * @since 0.1.0
+   */
+  Update update(final Single table);
+
+  /**
+   * Starts a {@code DELETE} statement, discarding the previous one.
+   *
+   * @param table The same as {@link Query#delete(Single)}.
+   * @return The same as {@link Query#delete(Single)}.
+   * @since 0.1.0
+   */
+  Where delete(final Single table);
+
+  /**
+   * Discards the statement under construction, so the fields it holds are not kept reachable by
+   * the builder until the next statement is started.
+   *
+   * @return This builder.
+   * @since 0.1.0
+   */
+  Builder reset();
+}
@@ -0,0 +1,209 @@
+package org.queryhub;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.queryhub.helper.Helper;
+
+/**
+ * Bounded cache of rendered statements, for statements which are built over and over again with
+ * the same parts, as configuration lookups usually are:
+ * <p>
+ * <pre>{@code
+ *
+ *   private static final Cache CACHE = Cache.of(1_024);
+ *
+ *   final var sql = Query.select(Single.identifier("config"), Single.identifier("value"))
+ *     .where(Single.identifier("key"), Single.of(key))
+ *     .build(CACHE);
+ *
+ * }</pre>
+ * <p>
+ * Statements are keyed by their structure, which fingerprint is computed while the building steps
+ * are set, so a repeated statement returns the same string without being rendered again. Only
+ * statements made of {@link org.queryhub.field.Field#isPure() pure} fields are cached, while any
+ * other statement is just rendered.
+ * <p>
+ * Lookups are lock-free. Once the cache is full, the least recently used statements are evicted,
+ * as approximated by the <i>CLOCK</i> algorithm: each lookup marks its statement as referenced, and
+ * insertions sweep the statements in order, evicting the first one which was not referenced since
+ * the last sweep.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @see org.queryhub.steps.Terminal#build(Cache)
+ * @since 0.1.0
+ */
+public final class Cache {
+
+  private final Map<Shape, Entry> entries;
+  private final Entry[] clock;
+  private int hand;
+
+  /**
+   * Default constructor.
+   *
+   * @param capacity How many statements are kept at most.
+   * @since 0.1.0
+   */
+  private Cache(final int capacity) {
+    this.entries = new ConcurrentHashMap<>(capacity);
+    this.clock = new Entry[capacity];
+  }
+
+  /**
+   * Produces an empty cache.
+   *
+   * @param capacity How many statements are kept at most.
+   * @return A thread-safe cache.
+   * @throws IllegalArgumentException if the capacity is lower than {@code 1}.
+   * @since 0.1.0
+   */
+  public static Cache of(final int capacity) {
+    Helper.throwIf(IllegalArgumentException::new, capacity < 1);
+    return new Cache(capacity);
+  }
+
+  /**
+   * @return How many statements are kept.
+   * @since 0.1.0
+   */
+  public final int size() {
+    return entries.size();
+  }
+
+  /**
+   * Evicts every statement.
+   *
+   * @since 0.1.0
+   */
+  public final synchronized void clear() {
+    entries.clear();
+    Arrays.fill(clock, null);
+    this.hand = 0;
+  }
+
+  // Package-private
+
+  /**
+   * Looks a statement up, rendering and keeping it if missing.
+   *
+   * @param shape    The statement's structure.
+   * @param renderer Renders the statement when it is missing.
+   * @return The rendered statement.
+   * @since 0.1.0
+   */
+  final String get(final Shape shape, final Supplier<String> renderer) {
+    final var entry = entries.get(shape);
+    if (entry != null) {
+      if (!entry.referenced) {
+        entry.referenced = Boolean.TRUE;
+      }
+      return entry.sql;
+    }
+    final var sql = renderer.get();
+    put(new Entry(shape.copy(), sql));
+    return sql;
+  }
+
+  // Private
+
+  /**
+   * Keeps a statement, evicting another one if the cache is full.
+   *
+   * @param entry The statement to be kept.
+   * @since 0.1.0
+   */
+  private synchronized void put(final Entry entry) {
+    if (entries.containsKey(entry.shape)) {
+      return;
+    }
+    while (clock[hand] != null && clock[hand].referenced) {
+      clock[hand].referenced = Boolean.FALSE;
+      this.hand = (hand + 1) % clock.length;
+    }
+    if (clock[hand] != null) {
+      entries.remove(clock[hand].shape);
+    }
+    clock[hand] = entry;
+    entries.put(entry.shape, entry);
+    this.hand = (hand + 1) % clock.length;
+  }
+
+  /**
+   * Statement's structure, made of its nodes, which are compared by their content.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  static final class Shape {
+
+    private final List<Node> nodes;
+    private final boolean withSemiColon;
+    private final int fingerprint;
+
+    /**
+     * Default constructor.
+     *
+     * @param nodes         The statement's nodes, which may be a builder's own list, since it is
+     *                      only looked up as it is, and {@link #copy() copied} when kept.
+     * @param withSemiColon Indicates if trailing semicolon is appended to the statement.
+     * @param fingerprint   The nodes' hash code, as computed by {@link List#hashCode()}.
+     * @since 0.1.0
+     */
+    Shape(final List<Node> nodes, final boolean withSemiColon, final int fingerprint) {
+      this.nodes = nodes;
+      this.withSemiColon = withSemiColon;
+      this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @return A shape holding a copy of the nodes, which are not changed by their builder being
+     * {@link Builder reused} afterwards.
+     * @since 0.1.0
+     */
+    final Shape copy() {
+      return new Shape(List.copyOf(nodes), withSemiColon, fingerprint);
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean equals(final Object o) {
+      if (o == null || getClass() != o.getClass()) {
+        return Boolean.FALSE;
+      }
+      final var s = (Shape) o;
+      return this.fingerprint == s.fingerprint && this.withSemiColon == s.withSemiColon
+        && this.nodes.equals(s.nodes);
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final int hashCode() {
+      return withSemiColon ? fingerprint : ~fingerprint;
+    }
+  }
+
+  /**
+   * Rendered statement, with its reference mark.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  private static final class Entry {
+
+    private final Shape shape;
+    private final String sql;
+    private volatile boolean referenced;
+
+    private Entry(final Shape shape, final String sql) {
+      this.shape = shape;
+      this.sql = sql;
+    }
+  }
+}
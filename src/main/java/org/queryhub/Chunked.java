@@ -0,0 +1,174 @@
+package org.queryhub;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.queryhub.field.Field;
+import org.queryhub.helper.Helper;
+import org.queryhub.steps.Batch;
+import org.queryhub.steps.Statement;
+
+/**
+ * {@link Batch} implementation. Keeps the statement's leading {@link Node nodes}, which are shared
+ * by every resulting statement, and one node per row.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Chunked implements Batch {
+
+  private static final String SEPARATOR = Counter.SEPARATOR;
+  private static final Node COMMA = Node.text(",");
+  private static final char SPACE = ' ';
+  private static final char END = ';';
+
+  private final List<Node> head;
+  private final Node[] rows;
+  private final Limits limits;
+
+  /**
+   * Default constructor.
+   *
+   * @param head   The statement's leading parts. Should not be modified afterwards.
+   * @param rows   One part per row.
+   * @param limits Limits for each statement.
+   * @since 0.1.0
+   */
+  private Chunked(final List<Node> head, final Node[] rows, final Limits limits) {
+    this.head = head;
+    this.rows = rows;
+    this.limits = limits;
+  }
+
+  /**
+   * Produces a batch from the given nodes and rows.
+   *
+   * @param head   The statement's leading parts, up to the {@code VALUES} keyword.
+   * @param rows   The rows to be inserted.
+   * @param limits Limits for each statement.
+   * @return An immutable batch.
+   * @throws IllegalArgumentException if there are no rows.
+   * @since 0.1.0
+   */
+  static Chunked of(final List<Node> head, final Iterable<? extends Field> rows,
+    final Limits limits) {
+    final var nodes = new ArrayList<Node>();
+    for (final var row : rows) {
+      nodes.add(Node.value(row, Boolean.TRUE));
+    }
+    Helper.throwIf(IllegalArgumentException::new, nodes.isEmpty());
+    return new Chunked(List.copyOf(head), nodes.toArray(new Node[0]), limits);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final List<String> build() {
+    return build(Boolean.TRUE);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final List<String> build(final boolean withSemiColon) {
+    final var statements = new ArrayList<String>();
+    final var builder = Tree.render(head, Boolean.FALSE, new StringBuilder());
+    final var length = builder.length();
+    final var counter = Counter.of(limits, builder, withSemiColon);
+    final var row = new StringBuilder();
+    for (final var node : rows) {
+      row.setLength(0);
+      render(node, row);
+      final var size = Counter.utf8Length(row);
+      if (!counter.admits(node.arity(), size)) {
+        statements.add(finish(builder, withSemiColon));
+        builder.setLength(length);
+      }
+      if (counter.isEmpty()) {
+        builder.append(SPACE);
+      } else {
+        builder.append(SEPARATOR);
+      }
+      builder.append(row);
+      counter.add(node.arity(), size);
+    }
+    statements.add(finish(builder, withSemiColon));
+    return Collections.unmodifiableList(statements);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final List<Statement> prepare() {
+    return prepare(Boolean.TRUE);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final List<Statement> prepare(final boolean withSemiColon) {
+    final var statements = new ArrayList<Statement>();
+    final var builder = Tree.render(head, Boolean.FALSE, new StringBuilder());
+    final var counter = Counter.of(limits, builder, withSemiColon);
+    final var nodes = new ArrayList<>(head);
+    for (final var node : rows) {
+      builder.setLength(0);
+      node.prepare(builder);
+      final var size = Counter.utf8Length(builder);
+      if (!counter.admits(node.arity(), size)) {
+        statements.add(Tree.of(nodes, withSemiColon));
+        nodes.subList(head.size(), nodes.size()).clear();
+      }
+      if (!counter.isEmpty()) {
+        nodes.add(COMMA);
+      }
+      nodes.add(node);
+      counter.add(node.arity(), size);
+    }
+    statements.add(Tree.of(nodes, withSemiColon));
+    return Collections.unmodifiableList(statements);
+  }
+
+  // Private
+
+  /**
+   * Renders a row with its values inlined.
+   *
+   * @param node    The row.
+   * @param builder The row being rendered.
+   * @since 0.1.0
+   */
+  private static void render(final Node node, final StringBuilder builder) {
+    try {
+      node.render(builder);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Finishes a statement.
+   *
+   * @param builder       The statement being rendered.
+   * @param withSemiColon Indicates if trailing semicolon should be appended to the statement.
+   * @return The statement's string representation.
+   * @since 0.1.0
+   */
+  private static String finish(final StringBuilder builder, final boolean withSemiColon) {
+    return withSemiColon ? builder.append(END).toString() : builder.toString();
+  }
+}
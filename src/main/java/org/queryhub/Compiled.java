@@ -0,0 +1,156 @@
+package org.queryhub;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import org.queryhub.helper.Helper;
+import org.queryhub.helper.Literal;
+
+/**
+ * Immutable {@link Template} implementation.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Compiled implements Template {
+
+  private static final char END = ';';
+  private static final String SPACED_COMMA = ", ";
+
+  private final String[] fragments;
+  private final int[] slots;
+  private final Map<String, Integer> indexes;
+  private final Set<String> names;
+  private final int length;
+
+  /**
+   * Default constructor.
+   *
+   * @param fragments The constant text fragments, one more than the slots.
+   * @param slots     Each slot's placeholder index.
+   * @param indexes   The placeholders' indexes, mapped by their names.
+   * @param names     The distinct placeholders' names.
+   * @since 0.1.0
+   */
+  private Compiled(final String[] fragments, final int[] slots, final Map<String, Integer> indexes,
+    final Set<String> names) {
+    this.fragments = fragments;
+    this.slots = slots;
+    this.indexes = indexes;
+    this.names = names;
+    var length = 0;
+    for (final var fragment : fragments) {
+      length += fragment.length();
+    }
+    this.length = length;
+  }
+
+  /**
+   * Compiles a statement's tree into a template.
+   *
+   * @param tree The statement's tree, which named placeholders are the template's slots.
+   * @return An immutable template.
+   * @since 0.1.0
+   */
+  static Compiled of(final Tree tree) {
+    final var fragment = new StringBuilder();
+    final var fragments = new ArrayList<String>();
+    final var slotNames = new ArrayList<String>();
+    tree.compile(fragment, fragments, slotNames);
+    fragments.add(fragment.toString());
+
+    final var indexes = new HashMap<String, Integer>();
+    final var slots = new int[slotNames.size()];
+    for (var i = 0; i < slots.length; i++) {
+      slots[i] = indexes.computeIfAbsent(slotNames.get(i), n -> indexes.size());
+    }
+    return new Compiled(fragments.toArray(new String[0]), slots, indexes,
+      Collections.unmodifiableSet(new LinkedHashSet<>(slotNames)));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Set<String> names() {
+    return names;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Binding binding() {
+    return new Bound();
+  }
+
+  /**
+   * Mutable {@link Binding} implementation. Keeps each placeholder's literal, which are rendered
+   * as soon as the values are bound.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  private final class Bound implements Binding {
+
+    private final String[] literals = new String[indexes.size()];
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final Binding bind(final String name, final Object value) {
+      final var index = indexes.get(name);
+      Helper.throwIf(IllegalArgumentException::new, index == null);
+      literals[index] = literal(value);
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final String build(final boolean withSemiColon) {
+      var capacity = length + 1;
+      for (final var slot : slots) {
+        Helper.throwIf(IllegalStateException::new, literals[slot] == null);
+        capacity += literals[slot].length();
+      }
+      final var builder = new StringBuilder(capacity).append(fragments[0]);
+      for (var i = 0; i < slots.length; i++) {
+        builder.append(literals[slots[i]]).append(fragments[i + 1]);
+      }
+      return withSemiColon ? builder.append(END).toString() : builder.toString();
+    }
+
+    /**
+     * Produces a bound value's literal.
+     *
+     * @param value A raw value. {@link Iterable Iterables} are rendered as multiple values.
+     * @return The value's string representation.
+     * @since 0.1.0
+     */
+    private String literal(final Object value) {
+      if (!(value instanceof Iterable)) {
+        return Literal.of(value);
+      }
+      final var joiner = new StringJoiner(SPACED_COMMA);
+      for (final var each : (Iterable<?>) value) {
+        joiner.add(Literal.of(each));
+      }
+      return joiner.toString();
+    }
+  }
+}
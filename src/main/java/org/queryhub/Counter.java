@@ -0,0 +1,111 @@
+package org.queryhub;
+
+import org.queryhub.steps.Batch.Limits;
+
+/**
+ * Keeps track of the rows, parameters and bytes of a multi-row statement under construction, so
+ * it can be split before exceeding its {@link Limits limits}.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Counter {
+
+  /**
+   * Separates each row from the previous one.
+   */
+  static final String SEPARATOR = " , ";
+
+  private final Limits limits;
+  private final long head;
+
+  private int rows;
+  private int parameters;
+  private long bytes;
+
+  /**
+   * Default constructor.
+   *
+   * @param limits Limits for each statement.
+   * @param head   Length of every statement's parts other than the rows.
+   * @since 0.1.0
+   */
+  private Counter(final Limits limits, final long head) {
+    this.limits = limits;
+    this.head = head;
+    this.bytes = head;
+  }
+
+  /**
+   * Produces a counter for statements which share the same leading parts.
+   *
+   * @param limits        Limits for each statement.
+   * @param head          The statements' leading parts, up to the {@code VALUES} keyword.
+   * @param withSemiColon Indicates if trailing semicolon is appended to each statement.
+   * @return An empty counter.
+   * @since 0.1.0
+   */
+  static Counter of(final Limits limits, final CharSequence head, final boolean withSemiColon) {
+    return new Counter(limits, utf8Length(head) + (withSemiColon ? 1 : 0));
+  }
+
+  /**
+   * Counts how many bytes a text takes when UTF-8 encoded, without encoding it.
+   *
+   * @param text A text.
+   * @return The text's encoded length.
+   * @since 0.1.0
+   */
+  static long utf8Length(final CharSequence text) {
+    var length = 0L;
+    for (var i = 0; i < text.length(); i++) {
+      final var c = text.charAt(i);
+      // Each half of a surrogate pair is counted as 2 bytes, summing up to 4.
+      length += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+    }
+    return length;
+  }
+
+  /**
+   * Indicates if a row fits into the statement under construction. Otherwise, resets the counter
+   * for the next statement. An empty statement always admits a row.
+   *
+   * @param arity The row's amount of parameters.
+   * @param size  The row's length, without its separator.
+   * @return If the row fits.
+   * @since 0.1.0
+   */
+  final boolean admits(final int arity, final long size) {
+    if (isEmpty() || rows < limits.rows() && parameters + arity <= limits.parameters()
+      && bytes + SEPARATOR.length() + size <= limits.bytes()) {
+      return Boolean.TRUE;
+    }
+    this.rows = 0;
+    this.parameters = 0;
+    this.bytes = head;
+    return Boolean.FALSE;
+  }
+
+  /**
+   * Indicates if the statement under construction has no rows yet.
+   *
+   * @return If there are no rows.
+   * @since 0.1.0
+   */
+  final boolean isEmpty() {
+    return rows == 0;
+  }
+
+  /**
+   * Counts a row into the statement under construction.
+   *
+   * @param arity The row's amount of parameters.
+   * @param size  The row's length, without its separator.
+   * @since 0.1.0
+   */
+  final void add(final int arity, final long size) {
+    this.rows++;
+    this.parameters += arity;
+    this.bytes += size + (rows == 1 ? 1 : SEPARATOR.length());
+  }
+}
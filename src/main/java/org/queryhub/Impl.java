@@ -1,10 +1,14 @@
 package org.queryhub;
 
+import java.util.Objects;
 import org.queryhub.field.Field;
 import org.queryhub.field.Single;
 import org.queryhub.helper.Helper;
+import org.queryhub.steps.Batch;
+import org.queryhub.steps.Batch.Limits;
 import org.queryhub.steps.Insert;
 import org.queryhub.steps.Limit;
+import org.queryhub.steps.Sink;
 import org.queryhub.steps.Sort;
 import org.queryhub.steps.Terminal;
 import org.queryhub.steps.Terminal.Select;
@@ -21,8 +25,8 @@ import org.queryhub.steps.Update.Mixin;
 final class Impl extends WhereBase<Impl>
   implements Insert, Update, After, Mixin, Sort, Limit, Terminal, Select {
 
-  private static final Field COMMA = () -> ",";
-  private static final Field EQUAL = () -> "=";
+  private static final Node COMMA = Node.text(",");
+  private static final Node EQUAL = Node.text("=");
 
   /**
    * {@inheritDoc}
@@ -33,6 +37,15 @@ final class Impl extends WhereBase<Impl>
     super(keyWord);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  private Impl(final Impl origin) {
+    super(origin);
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -43,6 +56,16 @@ final class Impl extends WhereBase<Impl>
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  final Impl fork() {
+    return new Impl(this);
+  }
+
   // Values
 
   /**
@@ -52,7 +75,61 @@ final class Impl extends WhereBase<Impl>
    */
   @Override
   public final Terminal values(final Field fields) {
-    return this.enclose(fields, Field::get);
+    return this.enclose(fields);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Terminal values(final Field row, final Field... rows) {
+    this.enclose(row);
+    for (final var r : rows) {
+      this.add(COMMA).enclose(r);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Batch values(final Iterable<? extends Field> rows) {
+    return this.values(rows, Limits.DEFAULT);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Batch values(final Iterable<? extends Field> rows, final Limits limits) {
+    return this.chunk(rows, Objects.requireNonNull(limits));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Sink sink() {
+    return this.sink(Limits.DEFAULT);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Sink sink(final Limits limits) {
+    return this.stream(Objects.requireNonNull(limits));
   }
 
   /**
@@ -62,7 +139,7 @@ final class Impl extends WhereBase<Impl>
    */
   @Override
   public final Terminal values(final Select clause) {
-    return this.enclose(clause, s -> s.build(Boolean.FALSE));
+    return this.enclose(clause);
   }
 
   // Update
@@ -74,7 +151,7 @@ final class Impl extends WhereBase<Impl>
    */
   @Override
   public final Update.After set(final Single field, final Single value) {
-    return this.add(Keys.SET).add(field).add(EQUAL).add(value);
+    return this.add(Keys.SET).add(field).add(EQUAL).bind(value);
   }
 
   /**
@@ -84,7 +161,7 @@ final class Impl extends WhereBase<Impl>
    */
   @Override
   public final Update.Mixin and(final Single field, final Single value) {
-    return this.add(COMMA).add(field).add(EQUAL).add(value);
+    return this.add(COMMA).add(field).add(EQUAL).bind(value);
   }
 
   // Sort
@@ -109,6 +186,6 @@ final class Impl extends WhereBase<Impl>
   @Override
   public final Terminal limit(final long s, final long o) {
     Helper.throwIf(IllegalArgumentException::new, s < 0 || s > o);
-    return this.add(Keys.LIMIT).add(Single.of(s)).add(COMMA).add(Single.of(o));
+    return this.add(Keys.LIMIT).bind(Single.of(s)).add(COMMA).bind(Single.of(o));
   }
 }
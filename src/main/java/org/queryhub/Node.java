@@ -0,0 +1,882 @@
+package org.queryhub;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import org.queryhub.field.Field;
+import org.queryhub.field.Parameter;
+import org.queryhub.helper.Literal;
+import org.queryhub.helper.Helper;
+import org.queryhub.helper.Mutator;
+import org.queryhub.helper.Utf8;
+import org.queryhub.steps.Where.InList.Strategy;
+
+/**
+ * Immutable part of a statement's {@link Tree tree}. Each node knows how to render itself both in
+ * the inlined and in the parameterized form, and value-bearing nodes can be re-bound to new values.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+interface Node {
+
+  /**
+   * Produces a node which string representation is constant.
+   *
+   * @param text The node's string representation.
+   * @return A node without parameters.
+   * @since 0.1.0
+   */
+  static Node text(final String text) {
+    return new Text(text);
+  }
+
+  /**
+   * Produces a node for fields which are always inlined, separated by commas. Their string
+   * representations are only written when the statement is rendered.
+   *
+   * @param field  A field to be set.
+   * @param fields Optional fields to be set.
+   * @return A node without parameters.
+   * @since 0.1.0
+   */
+  static Node fields(final Field field, final Field... fields) {
+    return new Fields(Objects.requireNonNull(field), fields.clone());
+  }
+
+  /**
+   * Produces a node for a value-bearing field. Fields without {@link Field#parameters()
+   * parameters} are rendered as constant text, while {@link Parameter named placeholders} become
+   * slots for {@link Template templates}.
+   *
+   * @param field    A field to be set.
+   * @param enclosed Indicates if the field should be enclosed within parenthesis.
+   * @return A node which parameters are the field's ones.
+   * @since 0.1.0
+   */
+  static Node value(final Field field, final boolean enclosed) {
+    if (field instanceof Parameter) {
+      return new Slot(((Parameter) field).name(), enclosed);
+    }
+    final var parameters = field.parameters();
+    if (parameters.isEmpty()) {
+      final var text = field.get();
+      return text(enclosed ? Mutator.ADD_PARENTHESIS.apply(text) : text);
+    }
+    return new Value(field, parameters, enclosed);
+  }
+
+  /**
+   * Produces a node for raw values, separated by commas.
+   *
+   * @param values   The values.
+   * @param enclosed Indicates if the values should be enclosed within parenthesis.
+   * @return A node which parameters are the given values.
+   * @since 0.1.0
+   */
+  static Node values(final List<?> values, final boolean enclosed) {
+    return new Value(null, values, enclosed);
+  }
+
+  /**
+   * Produces a node for an {@code IN} operation which list of values is not rendered inline.
+   *
+   * @param reference The reference field in the operation. Always inlined.
+   * @param values    The list of values.
+   * @param strategy  How the list of values is rendered.
+   * @param chunk     Up to how many values each {@link Strategy#SPLIT split} operation holds.
+   * @return A node which parameters are the list's values or, for {@link Strategy#ARRAY arrays},
+   * a single array holding them.
+   * @since 0.1.0
+   */
+  static Node in(final Field reference, final List<?> values, final Strategy strategy,
+    final int chunk) {
+    return new Members(reference, values, values.toArray(), strategy, chunk);
+  }
+
+  /**
+   * Produces a node for a nested statement, which is enclosed within parenthesis.
+   *
+   * @param tree The nested statement.
+   * @return A node which parameters are the nested statement's ones.
+   * @since 0.1.0
+   */
+  static Node nested(final Tree tree) {
+    return new Nested(tree);
+  }
+
+  /**
+   * Renders the node with its values inlined.
+   *
+   * @param output The statement being rendered.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  void render(final Appendable output) throws IOException;
+
+  /**
+   * Renders the node with placeholders in place of its values.
+   *
+   * @param builder The statement being rendered.
+   * @since 0.1.0
+   */
+  void prepare(final StringBuilder builder);
+
+  /**
+   * Collects the node's values, in order.
+   *
+   * @param parameters The statement's values collected so far.
+   * @since 0.1.0
+   */
+  default void collect(final List<Object> parameters) {
+  }
+
+  /**
+   * Indicates if the node always renders the same way. Pure nodes are compared by their content,
+   * so statements made only of them can be {@link Cache cached}.
+   *
+   * @return If the node is pure. {@code false} by default.
+   * @since 0.1.0
+   */
+  default boolean isPure() {
+    return Boolean.FALSE;
+  }
+
+  /**
+   * Supplies how many values the node holds.
+   *
+   * @return The amount of placeholders the node renders when parameterized.
+   * @since 0.1.0
+   */
+  default int arity() {
+    return 0;
+  }
+
+  /**
+   * Produces a node with the same shape, bound to other values.
+   *
+   * @param values The statement's new values.
+   * @param from   The index from which this node's values start.
+   * @return A node holding the values in the range defined by the {@link #arity() arity}.
+   * @since 0.1.0
+   */
+  default Node bind(final List<?> values, final int from) {
+    return this;
+  }
+
+  /**
+   * Renders the node as part of a {@link Template template}. Values are inlined into the fragment
+   * under construction, while named placeholders finish it.
+   *
+   * @param fragment  The fragment under construction.
+   * @param fragments The finished fragments so far.
+   * @param names     The placeholders' names so far, one between each pair of fragments.
+   * @since 0.1.0
+   */
+  default void compile(final StringBuilder fragment, final List<String> fragments,
+    final List<String> names) {
+    try {
+      render(fragment);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Constant text node.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  final class Text implements Node {
+
+    private final String text;
+    private final byte[] bytes;
+
+    private Text(final String text) {
+      this.text = text;
+      this.bytes = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The text is encoded beforehand, so it is copied as it is into {@link Utf8} outputs.
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void render(final Appendable output) throws IOException {
+      if (output instanceof Utf8) {
+        ((Utf8) output).put(bytes);
+      } else {
+        output.append(text);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void prepare(final StringBuilder builder) {
+      builder.append(text);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean isPure() {
+      return Boolean.TRUE;
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean equals(final Object o) {
+      if (o == null || getClass() != o.getClass()) {
+        return Boolean.FALSE;
+      }
+      return this.text.equals(((Text) o).text);
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final int hashCode() {
+      return text.hashCode();
+    }
+  }
+
+  /**
+   * Inlined fields node.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  final class Fields implements Node {
+
+    private static final String SPACED_COMMA = ", ";
+
+    private final Field field;
+    private final Field[] fields;
+
+    private Fields(final Field field, final Field[] fields) {
+      this.field = field;
+      this.fields = fields;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void render(final Appendable output) throws IOException {
+      field.appendTo(output);
+      for (final var f : fields) {
+        f.appendTo(output.append(SPACED_COMMA));
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void prepare(final StringBuilder builder) {
+      field.renderTo(builder);
+      for (final var f : fields) {
+        f.renderTo(builder.append(SPACED_COMMA));
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean isPure() {
+      if (!field.isPure()) {
+        return Boolean.FALSE;
+      }
+      for (final var f : fields) {
+        if (!f.isPure()) {
+          return Boolean.FALSE;
+        }
+      }
+      return Boolean.TRUE;
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean equals(final Object o) {
+      if (o == null || getClass() != o.getClass()) {
+        return Boolean.FALSE;
+      }
+      final var f = (Fields) o;
+      return this.field.equals(f.field) && Arrays.equals(this.fields, f.fields);
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final int hashCode() {
+      return 31 * field.hashCode() + Arrays.hashCode(fields);
+    }
+  }
+
+  /**
+   * Value-bearing node. Keeps its originating field, if any, so the inlined form is the field's
+   * own string representation.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  final class Value implements Node {
+
+    private static final String SPACED_COMMA = ", ";
+
+    private final Field field;
+    private final List<?> values;
+    private final boolean enclosed;
+
+    private Value(final Field field, final List<?> values, final boolean enclosed) {
+      this.field = field;
+      this.values = values;
+      this.enclosed = enclosed;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void render(final Appendable output) throws IOException {
+      if (enclosed) {
+        output.append('(');
+      }
+      if (field == null) {
+        Literal.appendTo(output, values);
+      } else {
+        field.appendTo(output);
+      }
+      if (enclosed) {
+        output.append(')');
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void prepare(final StringBuilder builder) {
+      final var variable = Field.Constants.VARIABLE.get();
+      if (enclosed) {
+        builder.append('(');
+      }
+      for (var i = 0; i < values.size(); i++) {
+        if (i > 0) {
+          builder.append(SPACED_COMMA);
+        }
+        builder.append(variable);
+      }
+      if (enclosed) {
+        builder.append(')');
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void collect(final List<Object> parameters) {
+      parameters.addAll(values);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final int arity() {
+      return values.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final Node bind(final List<?> values, final int from) {
+      return new Value(null, values.subList(from, from + arity()), enclosed);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean isPure() {
+      return field != null && field.isPure();
+    }
+
+    /**
+     * Nodes are equal when they hold equal pure fields, or else the same collected values, so
+     * fields which are not pure are never evaluated again.
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean equals(final Object o) {
+      if (o == null || getClass() != o.getClass()) {
+        return Boolean.FALSE;
+      }
+      final var v = (Value) o;
+      if (this.enclosed != v.enclosed || this.isPure() != v.isPure()) {
+        return Boolean.FALSE;
+      }
+      return isPure() ? this.field.equals(v.field) : this.values.equals(v.values);
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final int hashCode() {
+      return 31 * (isPure() ? field.hashCode() : values.hashCode()) + Boolean.hashCode(enclosed);
+    }
+  }
+
+  /**
+   * Named placeholder node.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  final class Slot implements Node {
+
+    private final String name;
+    private final boolean enclosed;
+
+    private Slot(final String name, final boolean enclosed) {
+      this.name = name;
+      this.enclosed = enclosed;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void render(final Appendable output) throws IOException {
+      final var variable = Field.Constants.VARIABLE.get();
+      if (enclosed) {
+        output.append('(').append(variable).append(')');
+      } else {
+        output.append(variable);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void prepare(final StringBuilder builder) {
+      final var variable = Field.Constants.VARIABLE.get();
+      builder.append(enclosed ? Mutator.ADD_PARENTHESIS.apply(variable) : variable);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void compile(final StringBuilder fragment, final List<String> fragments,
+      final List<String> names) {
+      fragments.add(enclosed ? fragment.append('(').toString() : fragment.toString());
+      fragment.setLength(0);
+      names.add(name);
+      if (enclosed) {
+        fragment.append(')');
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean isPure() {
+      return Boolean.TRUE;
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean equals(final Object o) {
+      if (o == null || getClass() != o.getClass()) {
+        return Boolean.FALSE;
+      }
+      final var s = (Slot) o;
+      return this.enclosed == s.enclosed && this.name.equals(s.name);
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final int hashCode() {
+      return Objects.hash(name, enclosed);
+    }
+  }
+
+  /**
+   * Nested statement node.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  final class Nested implements Node {
+
+    private final Tree tree;
+
+    private Nested(final Tree tree) {
+      this.tree = tree;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void render(final Appendable output) throws IOException {
+      tree.appendTo(output.append('(')).append(')');
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void prepare(final StringBuilder builder) {
+      builder.append("(").append(tree.sql()).append(")");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void collect(final List<Object> parameters) {
+      parameters.addAll(tree.parameters());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final int arity() {
+      return tree.parameters().size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final Node bind(final List<?> values, final int from) {
+      return new Nested(tree.bind(values.subList(from, from + arity()).toArray()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void compile(final StringBuilder fragment, final List<String> fragments,
+      final List<String> names) {
+      tree.compile(fragment.append('('), fragments, names);
+      fragment.append(')');
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean isPure() {
+      return tree.isPure();
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean equals(final Object o) {
+      if (o == null || getClass() != o.getClass()) {
+        return Boolean.FALSE;
+      }
+      return this.tree.hasSameNodes(((Nested) o).tree);
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final int hashCode() {
+      return tree.nodesHashCode();
+    }
+  }
+
+  /**
+   * {@code IN} operation node, which list of values is rendered according to a {@link Strategy
+   * strategy}.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  final class Members implements Node {
+
+    private static final String SPACED_COMMA = ", ";
+    private static final String IN = " " + Query.Keys.IN.keyWord() + " (";
+    private static final String OR = " " + Query.Keys.OR.keyWord() + " ";
+    private static final String VALUES = Query.Keys.VALUES.keyWord() + " ";
+    private static final String ANY = " = " + Query.Keys.ANY.keyWord() + " (";
+    private static final String ARRAY = Query.Keys.ARRAY.keyWord() + "[";
+
+    private final Field reference;
+    private final List<?> values;
+    private final Object array;
+    private final Strategy strategy;
+    private final int chunk;
+
+    private Members(final Field reference, final List<?> values, final Object array,
+      final Strategy strategy, final int chunk) {
+      this.reference = reference;
+      this.values = values;
+      this.array = array;
+      this.strategy = strategy;
+      this.chunk = chunk;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void render(final Appendable output) throws IOException {
+      write(output, Boolean.TRUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void prepare(final StringBuilder builder) {
+      try {
+        write(builder, Boolean.FALSE);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final void collect(final List<Object> parameters) {
+      if (strategy == Strategy.ARRAY) {
+        parameters.add(array);
+      } else {
+        parameters.addAll(values);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final int arity() {
+      return strategy == Strategy.ARRAY ? 1 : values.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * For {@link Strategy#ARRAY arrays}, the single value should be an array or a collection.
+     *
+     * @throws IllegalArgumentException if an array's value is neither an array nor a collection.
+     * @since 0.1.0
+     */
+    @Override
+    public final Node bind(final List<?> values, final int from) {
+      if (strategy != Strategy.ARRAY) {
+        final var bound = values.subList(from, from + arity());
+        return new Members(reference, bound, array, strategy, chunk);
+      }
+      final var value = values.get(from);
+      return new Members(reference, elements(value), value, strategy, chunk);
+    }
+
+    /**
+     * Renders the operation, either with its values inlined or with placeholders in their place.
+     *
+     * @param output The statement being rendered.
+     * @param inline Indicates if values are inlined.
+     * @throws IOException if the output fails to be written.
+     * @since 0.1.0
+     */
+    private void write(final Appendable output, final boolean inline) throws IOException {
+      switch (strategy) {
+        case SPLIT:
+          output.append('(');
+          for (var from = 0; from < values.size(); from += chunk) {
+            if (from > 0) {
+              output.append(OR);
+            }
+            reference.appendTo(output).append(IN);
+            items(output, inline, from, Math.min(from + chunk, values.size()), Boolean.FALSE);
+            output.append(')');
+          }
+          output.append(')');
+          break;
+        case VALUES:
+          reference.appendTo(output).append(IN).append(VALUES);
+          items(output, inline, 0, values.size(), Boolean.TRUE);
+          output.append(')');
+          break;
+        default:
+          reference.appendTo(output).append(ANY);
+          if (inline) {
+            items(output.append(ARRAY), Boolean.TRUE, 0, values.size(), Boolean.FALSE);
+            output.append(']');
+          } else {
+            output.append(Field.Constants.VARIABLE.get());
+          }
+          output.append(')');
+      }
+    }
+
+    /**
+     * Renders a range of the list of values, separated by commas.
+     *
+     * @param output   The statement being rendered.
+     * @param inline   Indicates if values are inlined.
+     * @param from     The range's first index.
+     * @param to       The range's last index, exclusive.
+     * @param enclosed Indicates if each value is enclosed within parenthesis.
+     * @throws IOException if the output fails to be written.
+     * @since 0.1.0
+     */
+    private void items(final Appendable output, final boolean inline, final int from,
+      final int to, final boolean enclosed) throws IOException {
+      for (var i = from; i < to; i++) {
+        if (i > from) {
+          output.append(SPACED_COMMA);
+        }
+        if (enclosed) {
+          output.append('(');
+        }
+        if (inline) {
+          Literal.appendTo(output, values.get(i));
+        } else {
+          output.append(Field.Constants.VARIABLE.get());
+        }
+        if (enclosed) {
+          output.append(')');
+        }
+      }
+    }
+
+    /**
+     * Lists the elements of an array or of a collection.
+     *
+     * @param value An array or a collection.
+     * @return The value's elements, in order.
+     * @throws IllegalArgumentException if the value is neither an array nor a collection.
+     * @since 0.1.0
+     */
+    private static List<?> elements(final Object value) {
+      if (value instanceof Object[]) {
+        return Arrays.asList(((Object[]) value).clone());
+      }
+      if (value instanceof Collection) {
+        return new ArrayList<>((Collection<?>) value);
+      }
+      Helper.throwIf(IllegalArgumentException::new, value == null || !value.getClass().isArray());
+      final var elements = new ArrayList<>(Array.getLength(value));
+      for (var i = 0; i < Array.getLength(value); i++) {
+        elements.add(Array.get(value, i));
+      }
+      return elements;
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean equals(final Object o) {
+      if (o == null || getClass() != o.getClass()) {
+        return Boolean.FALSE;
+      }
+      final var m = (Members) o;
+      return this.strategy == m.strategy && this.chunk == m.chunk
+        && this.reference.equals(m.reference) && this.values.equals(m.values);
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    public final int hashCode() {
+      return Objects.hash(reference, values, strategy, chunk);
+    }
+  }
+}
@@ -1,9 +1,16 @@
 package org.queryhub;
 
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
 import org.queryhub.field.Field;
 import org.queryhub.field.Single;
+import org.queryhub.helper.Helper;
 import org.queryhub.helper.KeyWord;
 import org.queryhub.steps.Insert;
+import org.queryhub.steps.Terminal;
 import org.queryhub.steps.Terminal.Select;
 import org.queryhub.steps.Update;
 import org.queryhub.steps.Where;
@@ -25,7 +32,8 @@ public interface Query {
    * @since 0.1.0
    */
   enum Keys implements
-    KeyWord {INSERT, INTO, VALUES, SELECT, DELETE, FROM, UPDATE, SET, WHERE, AND, OR, IN, LIMIT}
+    KeyWord {INSERT, INTO, VALUES, SELECT, DELETE, FROM, UPDATE, SET, WHERE, AND, OR, IN, LIMIT,
+    ANY, ARRAY}
 
   /**
    * Produces an {@code INSERT} statement.
@@ -128,6 +136,69 @@ public interface Query {
     return new Impl(Keys.UPDATE).add(table);
   }
 
+  /**
+   * Produces an {@code UPDATE} statement which sets only the columns changed between two snapshots
+   * of the same row, so unchanged columns are neither written nor have their indexes maintained.
+   * <p>
+   * The following implementation example:
+   * <p>
+   * <pre>{@code
+   *
+   *  final var before = new HashMap<Single, Single>();
+   *  before.put(Single.of("field_3"), Single.of(1));
+   *  before.put(Single.of("field_1"), Single.of("value_1"));
+   *  before.put(Single.of("field_2"), Single.of("value_1"));
+   *  final var after = new HashMap<>(before);
+   *  after.put(Single.of("field_2"), Single.of("value_2"));
+   *  after.put(Single.of("field_1"), Single.of("value_2"));
+   *
+   *  Query.update(Single.of("table_1"), before, after)
+   *    .map(update -> update.where(Single.of("id"), Single.of(7)).build());
+   *
+   * }</pre>
+   * <p>
+   * should produce the output:
+   * <p>
+   * <pre>{@code
+   *
+   *   UPDATE 'table_1' SET 'field_1' = 'value_2' , 'field_2' = 'value_2' WHERE 'id' IN (7);
+   *
+   * }</pre>
+   * <p>
+   * Columns are set sorted by their names, whatever the maps' iteration order, so the same changed
+   * columns always produce the same statement. Columns missing from the newer snapshot are not
+   * set.
+   * Values are compared by {@link Object#equals(Object)}, which compares the values produced by
+   * {@link Single}'s factories by their content, while any other field is deemed changed unless it
+   * is the same instance.
+   *
+   * @param table  Table's name which the update is going to be set.
+   * @param before The row's columns and their former values.
+   * @param after  The row's columns and their current values.
+   * @return Current statement building instance, intended to be chained to next building calls, or
+   * empty when no column has changed.
+   * @since 0.1.0
+   */
+  static Optional<Update.After> update(final Single table,
+    final Map<? extends Single, ? extends Single> before,
+    final Map<? extends Single, ? extends Single> after) {
+    final var changed = new TreeMap<Single, Single>(Comparator.comparing(Single::get));
+    for (final var entry : after.entrySet()) {
+      final var column = entry.getKey();
+      if (!before.containsKey(column) || !Objects.equals(before.get(column), entry.getValue())) {
+        changed.put(column, entry.getValue());
+      }
+    }
+    Update.After statement = null;
+    for (final var entry : changed.entrySet()) {
+      final var column = entry.getKey();
+      statement = statement == null
+        ? update(table).set(column, entry.getValue())
+        : statement.and(column, entry.getValue());
+    }
+    return Optional.ofNullable(statement);
+  }
+
   // TODO: Upsert
 
   /**
@@ -157,4 +228,68 @@ public interface Query {
   static Where delete(final Single table) {
     return new Impl(Keys.DELETE).add(Keys.FROM).add(table);
   }
+
+  /**
+   * Compiles a statement into a {@link Template template}, which values are bound by name.
+   * <p>
+   * The following implementation example:
+   * <p>
+   * <pre>{@code
+   *
+   *  final var template = Query.template(Query.select(Single.of("table_1"), Single.of("field_1"))
+   *    .where(Single.of("field_1"), Relation.GT, Parameter.of("min"))
+   *    .and(Single.of("field_2"), Parameter.of("keys")));
+   *
+   *  template.bind("min", 10).bind("keys", List.of("value_1", "value_2")).build();
+   *
+   * }</pre>
+   * <p>
+   * should produce the output:
+   * <p>
+   * <pre>{@code
+   *
+   *  SELECT 'field_1' FROM 'table_1' WHERE 'field_1' > 10 AND 'field_2' IN ('value_1', 'value_2');
+   *
+   * }</pre>
+   *
+   * @param statement A statement which values are {@link org.queryhub.field.Parameter named
+   *                  placeholders}. Then, its building is finished.
+   * @return An immutable template, intended to be compiled once and bound many times.
+   * @throws IllegalStateException if the given statement's building is already finished.
+   * @since 0.1.0
+   */
+  static Template template(final Terminal statement) {
+    return Compiled.of((Tree) statement.prepare(Boolean.FALSE));
+  }
+
+  /**
+   * Forks a statement under construction, producing an independent copy which can be built
+   * further without affecting the original one, nor the other forks.
+   * <p>
+   * Every fork shares the parts set so far, which are rendered only once, no matter how many
+   * forks are built:
+   * <p>
+   * <pre>{@code
+   *
+   *  final var base = Query.select(Single.of("table_1"), Single.of("field_1"))
+   *    .where(Single.of("tenant"), Single.of(tenant));
+   *
+   *  final var active = Query.fork(base).and(Single.of("active"), Single.of(true)).build();
+   *  final var recent = Query.fork(base).and(Single.of("year"), Single.of(2019)).build();
+   *
+   * }</pre>
+   *
+   * @param statement A statement under construction, at any building step.
+   * @param <T>       The statement's building step.
+   * @return A new statement, at the same building step.
+   * @throws IllegalArgumentException if the given object is not a statement produced by this
+   *                                  interface's factories.
+   * @throws IllegalStateException    if the given statement's building is already finished.
+   * @since 0.1.0
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T fork(final T statement) {
+    Helper.throwIf(IllegalArgumentException::new, !(statement instanceof Base));
+    return (T) ((Base<?>) statement).fork();
+  }
 }
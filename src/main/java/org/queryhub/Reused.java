@@ -0,0 +1,73 @@
+package org.queryhub;
+
+import org.queryhub.Query.Keys;
+import org.queryhub.field.Field;
+import org.queryhub.field.Single;
+import org.queryhub.steps.Insert;
+import org.queryhub.steps.Terminal.Select;
+import org.queryhub.steps.Update;
+import org.queryhub.steps.Where;
+
+/**
+ * {@link Builder} implementation. Starts every statement over the same {@link Impl} instance.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Reused implements Builder {
+
+  static final ThreadLocal<Builder> LOCAL = ThreadLocal.withInitial(Reused::new);
+
+  private final Impl impl = new Impl(Keys.SELECT).retain();
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Insert insert(final Single table) {
+    return impl.reset(Keys.INSERT).add(Keys.INTO).add(table).add(Keys.VALUES);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Select select(final Single from, final Field fields) {
+    return impl.reset(Keys.SELECT).add(fields).add(Keys.FROM).add(from);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Update update(final Single table) {
+    return impl.reset(Keys.UPDATE).add(table);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Where delete(final Single table) {
+    return impl.reset(Keys.DELETE).add(Keys.FROM).add(table);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Builder reset() {
+    impl.reset(Keys.SELECT);
+    return this;
+  }
+}
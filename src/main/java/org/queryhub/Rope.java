@@ -0,0 +1,516 @@
+package org.queryhub;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ObjIntConsumer;
+import org.queryhub.helper.Helper;
+
+/**
+ * Character sequence held in fixed-size segments, for statements too large to be held into a
+ * single contiguous array, such as the ones with large {@link org.queryhub.field.Multiple lists}
+ * of values. Since no segment is ever resized nor flattened, none of them becomes a humongous
+ * allocation, as large arrays do for some garbage collectors:
+ * <p>
+ * <pre>{@code
+ *
+ *   final var rope = Query.delete(Single.of("table_1"))
+ *     .where(Single.of("id"), Multiple.of(ids))
+ *     .renderTo(new Rope());
+ *
+ *   rope.writeTo(channel);
+ *
+ * }</pre>
+ * <p>
+ * The sequence can be read as a {@link CharSequence}, through a {@link #reader() reader} or by a
+ * {@link #writeTo(GatheringByteChannel) gathering write}, all of them without copying it into a
+ * single array. Only {@link #toString()} does so.
+ * <p>
+ * Large lists of values and rows may be {@link #parallel(ForkJoinPool) rendered concurrently}, in
+ * ranges which are appended in order once all of them are rendered.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @see org.queryhub.steps.Terminal#renderTo(Rope)
+ * @since 0.1.0
+ */
+public final class Rope implements Appendable, CharSequence {
+
+  private static final int SEGMENT = 8_192;
+  private static final int GATHER = 16;
+  private static final int THRESHOLD = 16_384;
+  private static final int CHUNK = 4_096;
+
+  private final int segment;
+  private final List<char[]> segments = new ArrayList<>();
+  private int length;
+  private ForkJoinPool pool;
+  private int threshold = Integer.MAX_VALUE;
+
+  /**
+   * Produces an empty sequence, with segments of {@code 8192} characters.
+   *
+   * @since 0.1.0
+   */
+  public Rope() {
+    this(SEGMENT);
+  }
+
+  /**
+   * Produces an empty sequence.
+   *
+   * @param segment How many characters each segment holds.
+   * @throws IllegalArgumentException if the segment's length is lower than {@code 1}.
+   * @since 0.1.0
+   */
+  public Rope(final int segment) {
+    Helper.throwIf(IllegalArgumentException::new, segment < 1);
+    this.segment = segment;
+  }
+
+  /**
+   * Renders large lists of values or rows appended to this sequence on the given pool, with the
+   * default threshold of {@code 16384} items. Smaller lists are still rendered sequentially.
+   *
+   * @param pool The pool to render on, such as {@link ForkJoinPool#commonPool()}.
+   * @return This sequence.
+   * @see #parallel(ForkJoinPool, int)
+   * @since 0.1.0
+   */
+  public final Rope parallel(final ForkJoinPool pool) {
+    return parallel(pool, THRESHOLD);
+  }
+
+  /**
+   * Renders large lists of values or rows appended to this sequence on the given pool. Each list
+   * is split into ranges of up to the given amount of items, each one rendered by its own task.
+   *
+   * @param pool      The pool to render on.
+   * @param threshold How many items a list must hold to be rendered concurrently, which is also
+   *                  how many items each task renders.
+   * @return This sequence.
+   * @throws IllegalArgumentException if the threshold is lower than {@code 1}.
+   * @since 0.1.0
+   */
+  public final Rope parallel(final ForkJoinPool pool, final int threshold) {
+    Helper.throwIf(IllegalArgumentException::new, threshold < 1);
+    this.pool = Objects.requireNonNull(pool);
+    this.threshold = threshold;
+    return this;
+  }
+
+  /**
+   * Appends a list of items, separated by the given separator. Lists with as many items as the
+   * {@link #parallel(ForkJoinPool, int) threshold} are rendered concurrently, when a pool was
+   * given, while smaller ones are rendered in bounded chunks.
+   *
+   * @param count     How many items to append.
+   * @param separator The separator between items.
+   * @param item      Writes an item, by its index, into the given builder. Should be safe to be
+   *                  called concurrently.
+   * @return This sequence.
+   * @since 0.1.0
+   */
+  public final Rope join(final int count, final String separator,
+    final ObjIntConsumer<StringBuilder> item) {
+    if (!splits(count)) {
+      return render(0, count, separator, item);
+    }
+    final var ranges = new Rope[(count + threshold - 1) / threshold];
+    pool.invoke(new Render(this, ranges, 0, ranges.length, count, separator, item));
+    for (final var range : ranges) {
+      for (var i = 0; i < range.segments.size(); i++) {
+        final var size = Math.min(range.segment, range.length - i * range.segment);
+        append(CharBuffer.wrap(range.segments.get(i), 0, size));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Rope append(final char c) {
+    final var offset = length % segment;
+    if (offset == 0 && length / segment == segments.size()) {
+      segments.add(new char[segment]);
+    }
+    segments.get(length / segment)[offset] = c;
+    this.length++;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Rope append(final CharSequence csq) {
+    final CharSequence sequence = csq == null ? "null" : csq;
+    return append(sequence, 0, sequence.length());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Strings and array-backed buffers are copied in bulk into each segment.
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Rope append(final CharSequence csq, final int start, final int end) {
+    final var sequence = csq == null ? "null" : csq;
+    Objects.checkFromToIndex(start, end, sequence.length());
+    var from = start;
+    while (from < end) {
+      final var offset = length % segment;
+      if (offset == 0 && length / segment == segments.size()) {
+        segments.add(new char[segment]);
+      }
+      final var target = segments.get(length / segment);
+      final var to = Math.min(end, from + segment - offset);
+      if (sequence instanceof String) {
+        ((String) sequence).getChars(from, to, target, offset);
+      } else if (sequence instanceof CharBuffer && ((CharBuffer) sequence).hasArray()) {
+        final var buffer = (CharBuffer) sequence;
+        final var index = buffer.arrayOffset() + buffer.position() + from;
+        System.arraycopy(buffer.array(), index, target, offset, to - from);
+      } else {
+        for (var i = from; i < to; i++) {
+          target[offset + i - from] = sequence.charAt(i);
+        }
+      }
+      this.length += to - from;
+      from = to;
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final int length() {
+    return length;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final char charAt(final int index) {
+    Objects.checkIndex(index, length);
+    return segments.get(index / segment)[index % segment];
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return A copy of the given range, held in segments as long as this sequence's.
+   * @since 0.1.0
+   */
+  @Override
+  public final Rope subSequence(final int start, final int end) {
+    Objects.checkFromToIndex(start, end, length);
+    final var slice = new Rope(segment);
+    for (var from = start; from < end; ) {
+      final var offset = from % segment;
+      final var to = Math.min(end, from - offset + segment);
+      slice.append(CharBuffer.wrap(segments.get(from / segment), offset, to - from));
+      from = to;
+    }
+    return slice;
+  }
+
+  /**
+   * Supplies a reader of this sequence, which is not copied. Therefore, the sequence should not be
+   * appended to while it is read.
+   *
+   * @return A reader from the sequence's beginning.
+   * @since 0.1.0
+   */
+  public final Reader reader() {
+    return new Reader() {
+
+      private int position;
+
+      @Override
+      public int read(final char[] buffer, final int offset, final int count) {
+        Objects.checkFromIndexSize(offset, count, buffer.length);
+        if (position >= length) {
+          return -1;
+        }
+        var read = 0;
+        while (read < count && position < length) {
+          final var from = position % segment;
+          final var chunk = Math.min(Math.min(count - read, segment - from), length - position);
+          System.arraycopy(segments.get(position / segment), from, buffer, offset + read, chunk);
+          read += chunk;
+          position += chunk;
+        }
+        return read;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+  }
+
+  /**
+   * Encodes this sequence as UTF-8 into the given channel, by gathering writes of a bounded set of
+   * buffers, which are reused until the whole sequence is written. Malformed characters are
+   * replaced.
+   *
+   * @param channel The channel to write into. Not closed afterwards.
+   * @return How many bytes were written.
+   * @throws IOException if the channel fails to be written.
+   * @since 0.1.0
+   */
+  public final long writeTo(final GatheringByteChannel channel) throws IOException {
+    final var gather = new Gather(channel, segment);
+    var pending = CharBuffer.allocate(0);
+    for (var i = 0; i < segments.size(); i++) {
+      final var chars = segments.get(i);
+      final var last = i == segments.size() - 1;
+      var from = 0;
+      if (pending.hasRemaining()) {
+        final var pair = CharBuffer.wrap(new char[]{pending.get(), chars[0]});
+        gather.encode(pair, Boolean.FALSE);
+        from = 1 - pair.remaining();
+      }
+      var to = last ? length - i * segment : segment;
+      if (!last && to - 1 >= from && Character.isHighSurrogate(chars[to - 1])) {
+        pending = CharBuffer.wrap(chars, --to, 1);
+      }
+      gather.encode(CharBuffer.wrap(chars, from, to - from), last);
+    }
+    return gather.flush();
+  }
+
+  /**
+   * Flattens this sequence into a single string, which should be avoided for large sequences.
+   *
+   * @return The sequence's characters.
+   * @since 0.1.0
+   */
+  @Override
+  public final String toString() {
+    final var builder = new StringBuilder(length);
+    for (var i = 0; i < segments.size(); i++) {
+      builder.append(segments.get(i), 0, Math.min(segment, length - i * segment));
+    }
+    return builder.toString();
+  }
+
+  // Package-private
+
+  /**
+   * @param count How many items a list holds.
+   * @return If the list would be rendered concurrently.
+   * @since 0.1.0
+   */
+  final boolean splits(final int count) {
+    return pool != null && count >= threshold;
+  }
+
+  // Private
+
+  /**
+   * Renders a range of items sequentially, through a bounded builder.
+   *
+   * @param from      The first item's index.
+   * @param to        The index after the last item.
+   * @param separator The separator between items.
+   * @param item      Writes an item into the given builder.
+   * @return This sequence.
+   * @since 0.1.0
+   */
+  private Rope render(final int from, final int to, final String separator,
+    final ObjIntConsumer<StringBuilder> item) {
+    final var chunk = new StringBuilder(CHUNK * 2);
+    for (var i = from; i < to; i++) {
+      if (i > 0) {
+        chunk.append(separator);
+      }
+      item.accept(chunk, i);
+      if (chunk.length() >= CHUNK) {
+        append(chunk);
+        chunk.setLength(0);
+      }
+    }
+    return append(chunk);
+  }
+
+  /**
+   * Renders ranges of items, splitting them in halves until each task renders a single range into
+   * its own sequence.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  private static final class Render extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Rope origin;
+    private final transient Rope[] ranges;
+    private final int from;
+    private final int to;
+    private final int count;
+    private final String separator;
+    private final transient ObjIntConsumer<StringBuilder> item;
+
+    /**
+     * Default constructor.
+     *
+     * @param origin    The sequence the items are appended to.
+     * @param ranges    Each range's sequence, once rendered.
+     * @param from      The first range's index.
+     * @param to        The index after the last range.
+     * @param count     How many items there are overall.
+     * @param separator The separator between items.
+     * @param item      Writes an item into the given builder.
+     * @since 0.1.0
+     */
+    private Render(final Rope origin, final Rope[] ranges, final int from, final int to,
+      final int count, final String separator, final ObjIntConsumer<StringBuilder> item) {
+      this.origin = origin;
+      this.ranges = ranges;
+      this.from = from;
+      this.to = to;
+      this.count = count;
+      this.separator = separator;
+      this.item = item;
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    protected final void compute() {
+      if (to - from > 1) {
+        final var middle = (from + to) >>> 1;
+        invokeAll(new Render(origin, ranges, from, middle, count, separator, item),
+          new Render(origin, ranges, middle, to, count, separator, item));
+        return;
+      }
+      final var first = from * origin.threshold;
+      final var last = (int) Math.min(count, (long) first + origin.threshold);
+      this.ranges[from] = new Rope(origin.segment).render(first, last, separator, item);
+    }
+  }
+
+  /**
+   * Encodes characters into a bounded set of buffers, which are written to a channel at once
+   * whenever all of them are filled, then reused.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  private static final class Gather {
+
+    private final GatheringByteChannel channel;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer[] buffers = new ByteBuffer[GATHER];
+    private final int capacity;
+    private int used;
+    private long written;
+
+    /**
+     * Default constructor.
+     *
+     * @param channel The channel to write into.
+     * @param segment How many characters each segment holds.
+     * @since 0.1.0
+     */
+    private Gather(final GatheringByteChannel channel, final int segment) {
+      this.channel = channel;
+      this.capacity = (int) Math.ceil(segment * (double) encoder.maxBytesPerChar());
+    }
+
+    /**
+     * Encodes the given characters, writing the buffers as they are filled.
+     *
+     * @param input The characters.
+     * @param last  If there is no further input.
+     * @throws IOException if the channel fails to be written.
+     * @since 0.1.0
+     */
+    private void encode(final CharBuffer input, final boolean last) throws IOException {
+      while (encoder.encode(input, current(), last).isOverflow()) {
+        this.used++;
+      }
+    }
+
+    /**
+     * Flushes the encoder, then writes the remaining buffers.
+     *
+     * @return How many bytes were written overall.
+     * @throws IOException if the channel fails to be written.
+     * @since 0.1.0
+     */
+    private long flush() throws IOException {
+      encoder.encode(CharBuffer.allocate(0), current(), Boolean.TRUE);
+      encoder.flush(current());
+      write(used + 1);
+      return written;
+    }
+
+    /**
+     * @return The buffer being filled, after writing every buffer when all of them are filled.
+     * @throws IOException if the channel fails to be written.
+     * @since 0.1.0
+     */
+    private ByteBuffer current() throws IOException {
+      if (used == GATHER) {
+        write(used);
+      }
+      if (buffers[used] == null) {
+        buffers[used] = ByteBuffer.allocate(capacity);
+      }
+      return buffers[used];
+    }
+
+    /**
+     * Writes the filled buffers, then clears them to be filled again.
+     *
+     * @param count How many buffers were filled.
+     * @throws IOException if the channel fails to be written.
+     * @since 0.1.0
+     */
+    private void write(final int count) throws IOException {
+      for (var i = 0; i < count; i++) {
+        buffers[i].flip();
+      }
+      while (buffers[count - 1].hasRemaining()) {
+        this.written += channel.write(buffers, 0, count);
+      }
+      for (var i = 0; i < count; i++) {
+        buffers[i].clear();
+      }
+      this.used = 0;
+    }
+  }
+}
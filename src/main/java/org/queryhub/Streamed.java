@@ -0,0 +1,131 @@
+package org.queryhub;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import org.queryhub.field.Field;
+import org.queryhub.steps.Batch.Limits;
+import org.queryhub.steps.Sink;
+
+/**
+ * {@link Sink} implementation. Keeps the statement's leading parts already rendered, so they are
+ * copied as they are into each written statement.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Streamed implements Sink {
+
+  private static final int BUFFER = 8_192;
+  private static final char SPACE = ' ';
+  private static final String END = ";\n";
+
+  private final String head;
+  private final Limits limits;
+
+  /**
+   * Default constructor.
+   *
+   * @param head   The statement's leading parts, rendered.
+   * @param limits Limits for each statement.
+   * @since 0.1.0
+   */
+  private Streamed(final String head, final Limits limits) {
+    this.head = head;
+    this.limits = limits;
+  }
+
+  /**
+   * Produces a sink from the given nodes.
+   *
+   * @param head   The statement's leading parts, up to the {@code VALUES} keyword.
+   * @param limits Limits for each statement.
+   * @return A stateless sink.
+   * @since 0.1.0
+   */
+  static Streamed of(final List<Node> head, final Limits limits) {
+    return new Streamed(Tree.render(head, Boolean.FALSE, new StringBuilder()).toString(), limits);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final long writeTo(final Writer writer, final Iterator<? extends Field> rows)
+    throws IOException {
+    final var buffered = new BufferedWriter(writer, BUFFER);
+    final var statements = write(buffered, rows);
+    buffered.flush();
+    return statements;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final long writeTo(final WritableByteChannel channel,
+    final Iterator<? extends Field> rows) throws IOException {
+    final var encoder = StandardCharsets.UTF_8.newEncoder();
+    final var writer = Channels.newWriter(channel, encoder, BUFFER);
+    final var statements = write(writer, rows);
+    writer.flush();
+    return statements;
+  }
+
+  // Private
+
+  /**
+   * Writes the rows, one at a time. Each row is rendered into a reused builder, as the rows of a
+   * {@link Chunked batch} are, so it can be measured before deciding if it fits into the statement
+   * under construction.
+   *
+   * @param writer The writer to write into.
+   * @param rows   The rows to be inserted.
+   * @return How many statements were written.
+   * @throws IOException if the writer fails to be written.
+   * @since 0.1.0
+   */
+  private long write(final Writer writer, final Iterator<? extends Field> rows)
+    throws IOException {
+    final var counter = Counter.of(limits, head, Boolean.TRUE);
+    final var row = new StringBuilder();
+    var chars = new char[0];
+    var statements = 0L;
+    while (rows.hasNext()) {
+      row.setLength(0);
+      final var node = Node.value(rows.next(), Boolean.TRUE);
+      node.render(row);
+      final var arity = node.arity();
+      final var size = Counter.utf8Length(row);
+      if (!counter.admits(arity, size)) {
+        writer.write(END);
+      }
+      if (counter.isEmpty()) {
+        writer.write(head);
+        writer.write(SPACE);
+        statements++;
+      } else {
+        writer.write(Counter.SEPARATOR);
+      }
+      if (chars.length < row.length()) {
+        chars = new char[row.capacity()];
+      }
+      row.getChars(0, row.length(), chars, 0);
+      writer.write(chars, 0, row.length());
+      counter.add(arity, size);
+    }
+    if (statements > 0) {
+      writer.write(END);
+    }
+    return statements;
+  }
+}
@@ -0,0 +1,111 @@
+package org.queryhub;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Statement compiled once, which values are bound by name afterwards.
+ * <p>
+ * Compiling splits the statement into constant text fragments, with a slot between them for each
+ * {@link org.queryhub.field.Parameter named placeholder}. Binding values only copies the fragments
+ * and the values' literals into a buffer sized in advance, so none of the building steps, neither
+ * the fields' string representations, are evaluated again.
+ * <p>
+ * Instances are immutable and thread-safe, while each {@link Binding binding} should be confined to
+ * a single thread.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @see Query#template(org.queryhub.steps.Terminal)
+ * @since 0.1.0
+ */
+public interface Template {
+
+  /**
+   * Supplies the names of the placeholders to be bound.
+   *
+   * @return The distinct placeholders' names, in the order of their first occurrence.
+   * @since 0.1.0
+   */
+  Set<String> names();
+
+  /**
+   * Starts binding values to the template's placeholders.
+   *
+   * @return An empty binding, which values can be set to.
+   * @since 0.1.0
+   */
+  Binding binding();
+
+  /**
+   * Starts binding values to the template's placeholders.
+   *
+   * @param name  A placeholder's name.
+   * @param value The value to be inlined in place of every placeholder with the given name. {@link
+   *              Iterable Iterables} are inlined as multiple values, separated by commas.
+   * @return A binding which further values can be set to.
+   * @throws IllegalArgumentException if there is no placeholder with the given name.
+   * @see #binding()
+   * @since 0.1.0
+   */
+  default Binding bind(final String name, final Object value) {
+    return binding().bind(name, value);
+  }
+
+  /**
+   * Produces the statement with all placeholders bound at once. Implicitly appends a semicolon to
+   * the statement's end.
+   *
+   * @param values The values, mapped by their placeholders' names.
+   * @return Complete and finished SQL string representation.
+   * @throws IllegalArgumentException if there is no placeholder with some given name.
+   * @throws IllegalStateException    if some placeholder is not bound.
+   * @since 0.1.0
+   */
+  default String build(final Map<String, ?> values) {
+    final var binding = binding();
+    values.forEach(binding::bind);
+    return binding.build();
+  }
+
+  /**
+   * Values bound to a {@link Template template}'s placeholders so far.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  interface Binding {
+
+    /**
+     * Binds another value.
+     *
+     * @param name  A placeholder's name.
+     * @param value The value to be inlined in place of every placeholder with the given name.
+     * @return Current binding instance. Previous values bound to the same name are replaced.
+     * @throws IllegalArgumentException if there is no placeholder with the given name.
+     * @since 0.1.0
+     */
+    Binding bind(final String name, final Object value);
+
+    /**
+     * Produces the statement with the values bound so far. Implicitly appends a semicolon to the
+     * statement's end.
+     *
+     * @return Complete and finished SQL string representation, with an appended semicolon.
+     * @throws IllegalStateException if some placeholder is not bound.
+     * @since 0.1.0
+     */
+    default String build() {
+      return build(Boolean.TRUE);
+    }
+
+    /**
+     * Produces the statement with the values bound so far.
+     *
+     * @param withSemiColon Optionally appends trailing semicolon to statement.
+     * @return Complete and finished SQL string representation.
+     * @throws IllegalStateException if some placeholder is not bound.
+     * @since 0.1.0
+     */
+    String build(final boolean withSemiColon);
+  }
+}
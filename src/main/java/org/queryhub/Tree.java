@@ -0,0 +1,295 @@
+package org.queryhub;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.queryhub.helper.Helper;
+import org.queryhub.steps.Statement;
+
+/**
+ * Immutable {@link Statement} implementation, composed by the {@link Node nodes} set by the
+ * statement building steps.
+ * <p>
+ * Since neither the tree nor its nodes are ever modified, a single instance can be rendered any
+ * number of times and shared among threads. Re-binding produces another tree, which shares the
+ * parameterized string representation with this one.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Tree implements Statement {
+
+  private static final char SPACE = ' ';
+  private static final char END = ';';
+
+  private final Node[] nodes;
+  private final boolean withSemiColon;
+  private final String sql;
+  private final List<Object> parameters;
+
+  /**
+   * Default constructor.
+   *
+   * @param nodes         The statement's parts. Should not be modified afterwards.
+   * @param withSemiColon Indicates if trailing semicolon should be appended to the statement.
+   * @param sql           The parameterized string representation.
+   * @param parameters    The statement's values. Should not be modifiable.
+   * @since 0.1.0
+   */
+  private Tree(final Node[] nodes, final boolean withSemiColon, final String sql,
+    final List<Object> parameters) {
+    this.nodes = nodes;
+    this.withSemiColon = withSemiColon;
+    this.sql = sql;
+    this.parameters = parameters;
+  }
+
+  /**
+   * Produces a tree from the given nodes.
+   *
+   * @param nodes         The statement's parts.
+   * @param withSemiColon Indicates if trailing semicolon should be appended to the statement.
+   * @return An immutable statement.
+   * @since 0.1.0
+   */
+  static Tree of(final List<Node> nodes, final boolean withSemiColon) {
+    final var array = nodes.toArray(new Node[0]);
+    final var builder = new StringBuilder();
+    final var parameters = new ArrayList<>();
+    for (var i = 0; i < array.length; i++) {
+      array[i].prepare(i == 0 ? builder : builder.append(SPACE));
+      array[i].collect(parameters);
+    }
+    final var sql = withSemiColon ? builder.append(END).toString() : builder.toString();
+    return new Tree(array, withSemiColon, sql, Collections.unmodifiableList(parameters));
+  }
+
+  /**
+   * Renders the given nodes with their values inlined, in a single pass.
+   *
+   * @param nodes         The statement's parts.
+   * @param withSemiColon Indicates if trailing semicolon should be appended to the statement.
+   * @param output        The statement being rendered.
+   * @param <A>           The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  static <A extends Appendable> A appendTo(final List<Node> nodes, final boolean withSemiColon,
+    final A output) throws IOException {
+    return appendTo(nodes, 0, withSemiColon, output);
+  }
+
+  /**
+   * Renders the given nodes with their values inlined, in a single pass, starting from the given
+   * node. The nodes before it are expected to be already written into the output. Statements with
+   * many nodes, such as inserts of many rows, may be rendered concurrently into {@link Rope ropes}.
+   *
+   * @param nodes         The statement's parts.
+   * @param from          The index of the first node to be rendered.
+   * @param withSemiColon Indicates if trailing semicolon should be appended to the statement.
+   * @param output        The statement being rendered.
+   * @param <A>           The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  static <A extends Appendable> A appendTo(final List<Node> nodes, final int from,
+    final boolean withSemiColon, final A output) throws IOException {
+    if (output instanceof Rope && ((Rope) output).splits(nodes.size() - from)) {
+      if (from > 0) {
+        output.append(SPACE);
+      }
+      ((Rope) output).join(nodes.size() - from, String.valueOf(SPACE), (builder, i) -> {
+        try {
+          nodes.get(from + i).render(builder);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } else {
+      for (var i = from; i < nodes.size(); i++) {
+        if (i > 0) {
+          output.append(SPACE);
+        }
+        nodes.get(i).render(output);
+      }
+    }
+    if (withSemiColon) {
+      output.append(END);
+    }
+    return output;
+  }
+
+  /**
+   * Renders the given nodes with their values inlined, in a single pass.
+   *
+   * @param nodes         The statement's parts.
+   * @param withSemiColon Indicates if trailing semicolon should be appended to the statement.
+   * @param builder       The statement being rendered.
+   * @return The given builder.
+   * @see #appendTo(List, boolean, Appendable)
+   * @since 0.1.0
+   */
+  static StringBuilder render(final List<Node> nodes, final boolean withSemiColon,
+    final StringBuilder builder) {
+    try {
+      return appendTo(nodes, withSemiColon, builder);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final String sql() {
+    return sql;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final List<Object> parameters() {
+    return parameters;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final String inline() {
+    return render(new StringBuilder()).toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Tree bind(final Object... values) {
+    Helper.throwIf(IllegalArgumentException::new, values.length != parameters.size());
+    final var bound = Collections.unmodifiableList(Arrays.asList(values.clone()));
+    final var array = new Node[nodes.length];
+    for (int i = 0, from = 0; i < nodes.length; from += nodes[i].arity(), i++) {
+      array[i] = nodes[i].bind(bound, from);
+    }
+    return new Tree(array, withSemiColon, sql, bound);
+  }
+
+  /**
+   * Renders the statement with its values inlined.
+   *
+   * @param builder The statement being rendered.
+   * @return The given builder.
+   * @since 0.1.0
+   */
+  final StringBuilder render(final StringBuilder builder) {
+    return render(Arrays.asList(nodes), withSemiColon, builder);
+  }
+
+  /**
+   * Renders the statement with its values inlined.
+   *
+   * @param output The statement being rendered.
+   * @param <A>    The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  final <A extends Appendable> A appendTo(final A output) throws IOException {
+    return appendTo(Arrays.asList(nodes), withSemiColon, output);
+  }
+
+  /**
+   * Renders the statement as part of a {@link Template template}, without trailing semicolon.
+   *
+   * @param fragment  The fragment under construction.
+   * @param fragments The finished fragments so far.
+   * @param names     The placeholders' names so far, one between each pair of fragments.
+   * @see Node#compile(StringBuilder, List, List)
+   * @since 0.1.0
+   */
+  final void compile(final StringBuilder fragment, final List<String> fragments,
+    final List<String> names) {
+    for (var i = 0; i < nodes.length; i++) {
+      nodes[i].compile(i == 0 ? fragment : fragment.append(SPACE), fragments, names);
+    }
+  }
+
+  /**
+   * @return If every node of the tree is {@link Node#isPure() pure}.
+   * @since 0.1.0
+   */
+  final boolean isPure() {
+    for (final var node : nodes) {
+      if (!node.isPure()) {
+        return Boolean.FALSE;
+      }
+    }
+    return Boolean.TRUE;
+  }
+
+  /**
+   * Compares the trees by their nodes, rather than by their string representations.
+   *
+   * @param other Another tree.
+   * @return If both trees are made of equal nodes.
+   * @since 0.1.0
+   */
+  final boolean hasSameNodes(final Tree other) {
+    return this.withSemiColon == other.withSemiColon && Arrays.equals(this.nodes, other.nodes);
+  }
+
+  /**
+   * @return A hash code consistent with {@link #hasSameNodes(Tree)}.
+   * @since 0.1.0
+   */
+  final int nodesHashCode() {
+    return Arrays.hashCode(nodes);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Override
+  public final boolean equals(final Object o) {
+    if (o == null || getClass() != o.getClass()) {
+      return Boolean.FALSE;
+    }
+    final var t = (Tree) o;
+    return this.sql.equals(t.sql) && this.parameters.equals(t.parameters);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Override
+  public final int hashCode() {
+    return Objects.hash(sql, parameters);
+  }
+
+  /**
+   * Prints out the parameterized statement.
+   *
+   * @return The same as {@link #sql()}.
+   * @since 0.1.0
+   */
+  @Override
+  public final String toString() {
+    return sql;
+  }
+}
@@ -4,6 +4,7 @@ import org.queryhub.field.Field;
 import org.queryhub.field.Single;
 import org.queryhub.steps.Where;
 import org.queryhub.steps.Where.After;
+import org.queryhub.steps.Where.InList;
 import org.queryhub.steps.Where.Mixin;
 
 /**
@@ -23,6 +24,15 @@ abstract class WhereBase<I extends WhereBase<I>> extends Base<I> implements Wher
     super(keyWord);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  WhereBase(final WhereBase<I> origin) {
+    super(origin);
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -30,7 +40,7 @@ abstract class WhereBase<I extends WhereBase<I>> extends Base<I> implements Wher
    */
   @Override
   public final Mixin where(final Single field1, final Relation relation, final Single field2) {
-    return this.add(Keys.WHERE).add(field1).add(relation).add(field2);
+    return this.add(Keys.WHERE).add(field1).add(relation).bind(field2);
   }
 
   /**
@@ -40,7 +50,7 @@ abstract class WhereBase<I extends WhereBase<I>> extends Base<I> implements Wher
    */
   @Override
   public final Mixin where(final Single ref, final Select clause) {
-    return this.add(Keys.WHERE).add(ref).add(Keys.IN).enclose(clause, s -> s.build(Boolean.FALSE));
+    return this.add(Keys.WHERE).add(ref).add(Keys.IN).enclose(clause);
   }
 
   /**
@@ -50,7 +60,17 @@ abstract class WhereBase<I extends WhereBase<I>> extends Base<I> implements Wher
    */
   @Override
   public final Where.Mixin where(final Single field, final Field fields) {
-    return this.add(Keys.WHERE).add(field).add(Keys.IN).enclose(fields, Field::get);
+    return this.add(Keys.WHERE).add(field).add(Keys.IN).enclose(fields);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Mixin where(final Single field, final Field fields, final InList inList) {
+    return this.add(Keys.WHERE).in(field, fields, inList);
   }
 
   /**
@@ -60,7 +80,7 @@ abstract class WhereBase<I extends WhereBase<I>> extends Base<I> implements Wher
    */
   @Override
   public final Mixin and(final Single field1, final Relation relation, final Single field2) {
-    return this.add(Keys.AND).add(field1).add(relation).add(field2);
+    return this.add(Keys.AND).add(field1).add(relation).bind(field2);
   }
 
   /**
@@ -70,7 +90,7 @@ abstract class WhereBase<I extends WhereBase<I>> extends Base<I> implements Wher
    */
   @Override
   public final Mixin and(final Single ref, final Select clause) {
-    return this.add(Keys.AND).add(ref).add(Keys.IN).enclose(clause, s -> s.build(Boolean.FALSE));
+    return this.add(Keys.AND).add(ref).add(Keys.IN).enclose(clause);
   }
 
   /**
@@ -80,7 +100,17 @@ abstract class WhereBase<I extends WhereBase<I>> extends Base<I> implements Wher
    */
   @Override
   public final Mixin and(final Single field, final Field fields) {
-    return this.add(Keys.AND).add(field).add(Keys.IN).enclose(fields, Field::get);
+    return this.add(Keys.AND).add(field).add(Keys.IN).enclose(fields);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Mixin and(final Single field, final Field fields, final InList inList) {
+    return this.add(Keys.AND).in(field, fields, inList);
   }
 
   /**
@@ -90,7 +120,7 @@ abstract class WhereBase<I extends WhereBase<I>> extends Base<I> implements Wher
    */
   @Override
   public final Mixin or(final Single field1, final Relation relation, final Single field2) {
-    return this.add(Keys.OR).add(field1).add(relation).add(field2);
+    return this.add(Keys.OR).add(field1).add(relation).bind(field2);
   }
 
   /**
@@ -100,7 +130,7 @@ abstract class WhereBase<I extends WhereBase<I>> extends Base<I> implements Wher
    */
   @Override
   public final Mixin or(final Single ref, final Select clause) {
-    return this.add(Keys.OR).add(ref).add(Keys.IN).enclose(clause, s -> s.build(Boolean.FALSE));
+    return this.add(Keys.OR).add(ref).add(Keys.IN).enclose(clause);
   }
 
   /**
@@ -110,6 +140,16 @@ abstract class WhereBase<I extends WhereBase<I>> extends Base<I> implements Wher
    */
   @Override
   public final Mixin or(final Single field, final Field fields) {
-    return this.add(Keys.OR).add(field).add(Keys.IN).enclose(fields, Field::get);
+    return this.add(Keys.OR).add(field).add(Keys.IN).enclose(fields);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final Mixin or(final Single field, final Field fields, final InList inList) {
+    return this.add(Keys.OR).in(field, fields, inList);
   }
 }
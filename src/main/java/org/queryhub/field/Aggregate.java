@@ -19,15 +19,16 @@ public interface Aggregate extends Single {
    * @param type  Aggregation's type.
    * @param value Field's reference (for column parameters) or a single value.
    * @return String representation of a single field, enclosed by single quotes, passed as parameter
-   * to the prepended aggregation function.
+   * to the prepended aggregation function. Produced once, since it only depends on the given names.
    * @since 0.1.0
    */
   static Aggregate of(final Type type, final String value, final String... values) {
     Helper.throwIf(IllegalArgumentException::new, !type.supportsMultiple && values.length > 0);
-    return () -> Variadic.asString((String s) -> Single.of(s).get())
+    final var text = Variadic.asString((String s) -> Single.of(s).get())
       .andThen(Mutator.ADD_PARENTHESIS)
       .andThen(s -> type + s)
       .apply(value, values);
+    return () -> text;
   }
 
   // Composition
@@ -1,7 +1,10 @@
 package org.queryhub.field;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.ChronoLocalDateTime;
+import java.util.List;
 import java.util.function.Supplier;
 
 /**
@@ -21,12 +24,79 @@ import java.util.function.Supplier;
  * <p>
  * By the fact of this abstraction should be a {@link Supplier} specialization, it should return
  * {@link String} instances be lazily evaluated, as the lambda structures usually does.
+ * <p>
+ * Fields produced by the factories in {@link Single} and {@link Multiple} also keep their raw
+ * values, which can be bound to {@link Constants#VARIABLE placeholders} instead of being inlined
+ * into the statement. See {@link #parameters()}.
  *
  * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
  * @since 0.1.0
  */
 public interface Field extends Supplier<String> {
 
+  /**
+   * Supplies the raw values represented by this field, in the same order they appear in its string
+   * representation.
+   * <p>
+   * When a statement is {@link org.queryhub.steps.Terminal#prepare() prepared}, each value is
+   * replaced by a {@link Constants#VARIABLE placeholder} and the values are handed out as the
+   * statement's parameters. Fields which do not represent values, such as the {@link Constants}
+   * or aggregation functions, should return an empty list in order to be inlined as they are.
+   *
+   * @return The field's values. Empty by default.
+   * @since 0.1.0
+   */
+  default List<Object> parameters() {
+    return List.of();
+  }
+
+  /**
+   * Indicates if the field always produces the same string representation, so it can be compared
+   * by its content and its rendering can be kept and reused, as by {@link org.queryhub.Cache}.
+   * <p>
+   * Fields are not pure by default, since they may be lambdas reading mutable state.
+   *
+   * @return If the field is pure. {@code false} by default.
+   * @since 0.1.0
+   */
+  default boolean isPure() {
+    return Boolean.FALSE;
+  }
+
+  /**
+   * Writes the field's string representation straight into the given output, which allows a whole
+   * statement to be written in a single pass into a reused buffer.
+   * <p>
+   * Implementations should override this method whenever they can write their representation
+   * without producing an intermediate {@link String}, which is what {@link #get()} does.
+   *
+   * @param output The output to write into.
+   * @param <A>    The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  default <A extends Appendable> A appendTo(final A output) throws IOException {
+    output.append(get());
+    return output;
+  }
+
+  /**
+   * Writes the field's string representation straight into the given builder.
+   *
+   * @param builder The builder to write into.
+   * @return The given builder.
+   * @see #appendTo(Appendable)
+   * @since 0.1.0
+   */
+  default StringBuilder renderTo(final StringBuilder builder) {
+    try {
+      return appendTo(builder);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * {@link Field}'s utility constants.
    *
@@ -68,5 +138,15 @@ public interface Field extends Supplier<String> {
     public final String get() {
       return field.get();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final boolean isPure() {
+      return Boolean.TRUE;
+    }
   }
 }
@@ -0,0 +1,52 @@
+package org.queryhub.field;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Table or column reference, which is quoted only once and shared wherever the same name is used.
+ * <p>
+ * Unlike {@link Single#of(String)}, identifiers do not carry {@link #parameters() parameters}, so
+ * they are always inlined, even into {@link org.queryhub.steps.Terminal#prepare() prepared}
+ * statements:
+ * <p>
+ * <pre>{@code
+ *
+ *   private static final Identifier TABLE = Single.identifier("table_1");
+ *   private static final Identifier ID = Single.identifier("id");
+ *
+ * }</pre>
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public interface Identifier extends Single {
+
+  /**
+   * Produces an identifier. Names are kept in a bounded registry, so the same instance is returned
+   * for the same name while the registry has room for it.
+   *
+   * @param name The table's or column's name. Leading quotes is going to be removed. Cannot be
+   *             {@code null}.
+   * @return String representation of the name, enclosed by single quotes.
+   * @since 0.1.0
+   */
+  static Identifier of(final String name) {
+    return Quoted.of(name);
+  }
+
+  /**
+   * Supplies the identifier's name.
+   *
+   * @return The name, without quotes.
+   * @since 0.1.0
+   */
+  String name();
+
+  /**
+   * Supplies the identifier's string representation, encoded as UTF-8.
+   *
+   * @return A read-only buffer, positioned at its beginning.
+   * @since 0.1.0
+   */
+  ByteBuffer bytes();
+}
@@ -0,0 +1,164 @@
+package org.queryhub.field;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import org.queryhub.helper.Helper;
+
+/**
+ * Growable list of primitive {@code long} values, intended to be reused across statements, so
+ * large lists of identifiers are neither boxed nor reallocated for each statement.
+ * <p>
+ * A {@link Multiple#of(LongList) field} backed by a list reads its current values whenever the
+ * statement is rendered. Therefore, the list should not be modified while a statement which holds
+ * it is still in use:
+ * <p>
+ * <pre>{@code
+ *
+ *   final var ids = new LongList(1_024);
+ *   for (final var page : pages) {
+ *     ids.clear().addAll(page);
+ *     final var sql = Query.delete(Single.of("table_1"))
+ *       .where(Single.of("id"), Multiple.of(ids))
+ *       .build();
+ *     // ...
+ *   }
+ *
+ * }</pre>
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public final class LongList {
+
+  private static final int CAPACITY = 16;
+
+  private long[] values;
+  private int size;
+
+  /**
+   * Produces an empty list with a default initial capacity.
+   *
+   * @since 0.1.0
+   */
+  public LongList() {
+    this(CAPACITY);
+  }
+
+  /**
+   * Produces an empty list.
+   *
+   * @param capacity The initial capacity.
+   * @throws IllegalArgumentException if the capacity is negative.
+   * @since 0.1.0
+   */
+  public LongList(final int capacity) {
+    Helper.throwIf(IllegalArgumentException::new, capacity < 0);
+    this.values = new long[capacity];
+  }
+
+  /**
+   * Appends a value.
+   *
+   * @param value A value.
+   * @return This list.
+   * @since 0.1.0
+   */
+  public final LongList add(final long value) {
+    grow(1);
+    this.values[size++] = value;
+    return this;
+  }
+
+  /**
+   * Appends many values.
+   *
+   * @param values The values.
+   * @return This list.
+   * @since 0.1.0
+   */
+  public final LongList addAll(final long... values) {
+    grow(values.length);
+    System.arraycopy(values, 0, this.values, size, values.length);
+    this.size += values.length;
+    return this;
+  }
+
+  /**
+   * Appends the values of a stream, in order.
+   *
+   * @param values The values.
+   * @return This list.
+   * @since 0.1.0
+   */
+  public final LongList addAll(final LongStream values) {
+    values.forEachOrdered(this::add);
+    return this;
+  }
+
+  /**
+   * Gets a value.
+   *
+   * @param index The value's index.
+   * @return The value.
+   * @throws IndexOutOfBoundsException if the index is out of the list's bounds.
+   * @since 0.1.0
+   */
+  public final long get(final int index) {
+    return values[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @return How many values the list holds.
+   * @since 0.1.0
+   */
+  public final int size() {
+    return size;
+  }
+
+  /**
+   * Removes every value, keeping the list's capacity.
+   *
+   * @return This list.
+   * @since 0.1.0
+   */
+  public final LongList clear() {
+    this.size = 0;
+    return this;
+  }
+
+  /**
+   * @return A copy of the list's values.
+   * @since 0.1.0
+   */
+  public final long[] toArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  // Package-private
+
+  /**
+   * @return The backing array, which may be longer than the list.
+   * @since 0.1.0
+   */
+  final long[] array() {
+    return values;
+  }
+
+  // Private
+
+  /**
+   * Ensures the backing array holds the given amount of values besides the current ones.
+   *
+   * @param amount The amount of values to be appended.
+   * @since 0.1.0
+   */
+  private void grow(final int amount) {
+    final var required = size + amount;
+    if (required > values.length) {
+      this.values = Arrays.copyOf(values, Math.max(required, values.length * 2));
+    }
+  }
+}
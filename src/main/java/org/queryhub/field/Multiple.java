@@ -1,11 +1,12 @@
 package org.queryhub.field;
 
-import static org.queryhub.helper.Variadic.asString;
+import static org.queryhub.helper.Variadic.asList;
 
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.ChronoLocalDateTime;
+import java.util.Objects;
 import java.util.function.Function;
-import org.queryhub.helper.Helper;
+import java.util.stream.LongStream;
 import org.queryhub.helper.Mutator;
 
 /**
@@ -27,7 +28,7 @@ public interface Multiple extends Field {
    * @since 0.1.0
    */
   static Multiple of(final long value, final Number... values) {
-    return () -> asString((Function<Number, String>) String::valueOf).apply(value, values);
+    return Value.of(() -> asList((Function<Number, Object>) n -> n).apply(value, values));
   }
 
   /**
@@ -41,7 +42,7 @@ public interface Multiple extends Field {
    * @since 0.1.0
    */
   static Multiple of(final boolean value, final Boolean... values) {
-    return () -> asString((Function<Boolean, String>) String::valueOf).apply(value, values);
+    return Value.of(() -> asList((Function<Boolean, Object>) b -> b).apply(value, values));
   }
 
   /**
@@ -56,7 +57,7 @@ public interface Multiple extends Field {
    * @since 0.1.0
    */
   static Multiple of(final ChronoLocalDate value, final ChronoLocalDate... values) {
-    return () -> asString(Mutator.ADD_SIMPLE_QUOTE.compose(String::valueOf)).apply(value, values);
+    return Value.of(() -> asList((Function<ChronoLocalDate, Object>) d -> d).apply(value, values));
   }
 
   /**
@@ -71,8 +72,8 @@ public interface Multiple extends Field {
    * @since 0.1.0
    */
   static Multiple of(final ChronoLocalDateTime value, final ChronoLocalDateTime... values) {
-    return () -> asString(Mutator.ADD_SIMPLE_QUOTE.compose(Helper.LOCAL_DATE_TIME::format))
-      .apply(value, values);
+    return Value.of(
+      () -> asList((Function<ChronoLocalDateTime<?>, Object>) d -> d).apply(value, values));
   }
 
   /**
@@ -86,7 +87,69 @@ public interface Multiple extends Field {
    * @since 0.1.0
    */
   static Multiple of(final CharSequence value, final CharSequence... values) {
-    return () -> asString(Mutator.ADD_SIMPLE_QUOTE.compose(String::valueOf))
-      .andThen(Mutator.REMOVE_REDUNDANT_DOUBLE_QUOTES).apply(value, values);
+    return Value.of(() -> asList((Function<CharSequence, Object>) s -> Mutator
+      .REMOVE_REDUNDANT_DOUBLE_QUOTES.apply(String.valueOf(s))).apply(value, values));
+  }
+
+  /**
+   * Produces multiple numeric fields from primitive values, which are never boxed when the
+   * statement is rendered inline.
+   *
+   * @param values The values. Not copied, so the array should not be modified while a statement
+   *               which holds the field is still in use.
+   * @return String representation of multiple fields, separated by commas.
+   * @since 0.1.0
+   */
+  static Multiple of(final long[] values) {
+    return new Primitive.Longs(Objects.requireNonNull(values));
+  }
+
+  /**
+   * Produces multiple numeric fields from primitive values, which are never boxed when the
+   * statement is rendered inline.
+   *
+   * @param values The values. Not copied, so the array should not be modified while a statement
+   *               which holds the field is still in use.
+   * @return String representation of multiple fields, separated by commas.
+   * @since 0.1.0
+   */
+  static Multiple of(final int[] values) {
+    return new Primitive.Ints(Objects.requireNonNull(values));
+  }
+
+  /**
+   * Produces multiple numeric fields from primitive values, which are never boxed when the
+   * statement is rendered inline.
+   *
+   * @param values The values. Not copied, so the array should not be modified while a statement
+   *               which holds the field is still in use.
+   * @return String representation of multiple fields, separated by commas.
+   * @since 0.1.0
+   */
+  static Multiple of(final double[] values) {
+    return new Primitive.Doubles(Objects.requireNonNull(values));
+  }
+
+  /**
+   * Produces multiple numeric fields from a stream of primitive values, which is consumed at once.
+   *
+   * @param values The values.
+   * @return String representation of multiple fields, separated by commas.
+   * @since 0.1.0
+   */
+  static Multiple of(final LongStream values) {
+    return of(values.toArray());
+  }
+
+  /**
+   * Produces multiple numeric fields backed by a reusable list of primitive values.
+   *
+   * @param values The values, read whenever the statement is rendered.
+   * @return String representation of multiple fields, separated by commas.
+   * @see LongList
+   * @since 0.1.0
+   */
+  static Multiple of(final LongList values) {
+    return new Primitive.Listed(Objects.requireNonNull(values));
   }
 }
@@ -0,0 +1,48 @@
+package org.queryhub.field;
+
+import java.util.Objects;
+
+/**
+ * Named placeholder, which value is supplied later on by a {@link org.queryhub.Template template}.
+ * <p>
+ * It can be set anywhere a value is expected, as in the {@code SET}, {@code WHERE} and {@code
+ * VALUES} clauses. When a statement is built or prepared without a template, it is rendered as an
+ * unnamed {@link Constants#VARIABLE placeholder}.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @see org.queryhub.Query#template(org.queryhub.steps.Terminal)
+ * @since 0.1.0
+ */
+public interface Parameter extends Single, Multiple {
+
+  /**
+   * Produces a named placeholder.
+   *
+   * @param name The placeholder's name. Cannot be {@code null}.
+   * @return A placeholder to be bound by name.
+   * @since 0.1.0
+   */
+  static Parameter of(final String name) {
+    Objects.requireNonNull(name);
+    return () -> name;
+  }
+
+  /**
+   * Supplies the placeholder's name.
+   *
+   * @return The name to which a value is going to be bound.
+   * @since 0.1.0
+   */
+  String name();
+
+  /**
+   * Supplies an unnamed placeholder.
+   *
+   * @return The same as {@link Constants#VARIABLE}.
+   * @since 0.1.0
+   */
+  @Override
+  default String get() {
+    return Constants.VARIABLE.get();
+  }
+}
@@ -0,0 +1,296 @@
+package org.queryhub.field;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.List;
+import org.queryhub.Rope;
+import org.queryhub.helper.Utf8;
+
+/**
+ * {@link Multiple} implementation backed by primitive values, produced by {@link Multiple}'s
+ * array-based factories. Values are written as digits straight into the output, and only boxed
+ * when bound as statement parameters. Outputs other than builders and buffers receive the values
+ * in bounded chunks, so a large list is never rendered into a single string beforehand, and
+ * {@link Rope ropes} may render them concurrently.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+abstract class Primitive implements Multiple {
+
+  private static final String SPACED_COMMA = ", ";
+  private static final int DIGITS = 8;
+  private static final int CHUNK = 4_096;
+
+  /**
+   * @return How many values the field holds.
+   * @since 0.1.0
+   */
+  abstract int size();
+
+  /**
+   * Writes a value.
+   *
+   * @param builder The builder to write into.
+   * @param index   The value's index.
+   * @since 0.1.0
+   */
+  abstract void write(final StringBuilder builder, final int index);
+
+  /**
+   * Writes a value as UTF-8.
+   *
+   * @param output The output to write into.
+   * @param index  The value's index.
+   * @since 0.1.0
+   */
+  abstract void write(final Utf8 output, final int index);
+
+  /**
+   * Boxes a value.
+   *
+   * @param index The value's index.
+   * @return The boxed value.
+   * @since 0.1.0
+   */
+  abstract Object box(final int index);
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final String get() {
+    return renderTo(new StringBuilder(size() * DIGITS)).toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final <A extends Appendable> A appendTo(final A output) throws IOException {
+    if (output instanceof StringBuilder) {
+      final var builder = (StringBuilder) output;
+      final var size = size();
+      for (var i = 0; i < size; i++) {
+        if (i > 0) {
+          builder.append(SPACED_COMMA);
+        }
+        write(builder, i);
+      }
+    } else if (output instanceof Utf8) {
+      final var utf8 = (Utf8) output;
+      final var size = size();
+      for (var i = 0; i < size; i++) {
+        if (i > 0) {
+          utf8.append(SPACED_COMMA);
+        }
+        write(utf8, i);
+      }
+    } else if (output instanceof Rope) {
+      ((Rope) output).join(size(), SPACED_COMMA, this::write);
+    } else {
+      final var chunk = new StringBuilder(CHUNK + DIGITS * 4);
+      final var size = size();
+      for (var i = 0; i < size; i++) {
+        if (i > 0) {
+          chunk.append(SPACED_COMMA);
+        }
+        write(chunk, i);
+        if (chunk.length() >= CHUNK) {
+          output.append(chunk);
+          chunk.setLength(0);
+        }
+      }
+      output.append(chunk);
+    }
+    return output;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Values are boxed as they are read from the returned list.
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final List<Object> parameters() {
+    return new AbstractList<>() {
+      @Override
+      public Object get(final int index) {
+        return box(index);
+      }
+
+      @Override
+      public int size() {
+        return Primitive.this.size();
+      }
+    };
+  }
+
+  /**
+   * Fields are equal to each other when they are backed by the same kind of values, and hold
+   * equal values.
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final boolean equals(final Object o) {
+    if (o == null || getClass() != o.getClass()) {
+      return Boolean.FALSE;
+    }
+    return this == o || this.parameters().equals(((Primitive) o).parameters());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Override
+  public final int hashCode() {
+    return parameters().hashCode();
+  }
+
+  /**
+   * {@code long} values.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  static final class Longs extends Primitive {
+
+    private final long[] values;
+
+    Longs(final long[] values) {
+      this.values = values;
+    }
+
+    @Override
+    final int size() {
+      return values.length;
+    }
+
+    @Override
+    final void write(final StringBuilder builder, final int index) {
+      builder.append(values[index]);
+    }
+
+    @Override
+    final void write(final Utf8 output, final int index) {
+      output.put(values[index]);
+    }
+
+    @Override
+    final Object box(final int index) {
+      return values[index];
+    }
+  }
+
+  /**
+   * {@code long} values of a {@link LongList reusable list}, read as they are rendered.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  static final class Listed extends Primitive {
+
+    private final LongList list;
+
+    Listed(final LongList list) {
+      this.list = list;
+    }
+
+    @Override
+    final int size() {
+      return list.size();
+    }
+
+    @Override
+    final void write(final StringBuilder builder, final int index) {
+      builder.append(list.array()[index]);
+    }
+
+    @Override
+    final void write(final Utf8 output, final int index) {
+      output.put(list.array()[index]);
+    }
+
+    @Override
+    final Object box(final int index) {
+      return list.get(index);
+    }
+  }
+
+  /**
+   * {@code int} values.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  static final class Ints extends Primitive {
+
+    private final int[] values;
+
+    Ints(final int[] values) {
+      this.values = values;
+    }
+
+    @Override
+    final int size() {
+      return values.length;
+    }
+
+    @Override
+    final void write(final StringBuilder builder, final int index) {
+      builder.append(values[index]);
+    }
+
+    @Override
+    final void write(final Utf8 output, final int index) {
+      output.put(values[index]);
+    }
+
+    @Override
+    final Object box(final int index) {
+      return values[index];
+    }
+  }
+
+  /**
+   * {@code double} values.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  static final class Doubles extends Primitive {
+
+    private final double[] values;
+
+    Doubles(final double[] values) {
+      this.values = values;
+    }
+
+    @Override
+    final int size() {
+      return values.length;
+    }
+
+    @Override
+    final void write(final StringBuilder builder, final int index) {
+      builder.append(values[index]);
+    }
+
+    @Override
+    final void write(final Utf8 output, final int index) {
+      output.append(Double.toString(values[index]));
+    }
+
+    @Override
+    final Object box(final int index) {
+      return values[index];
+    }
+  }
+}
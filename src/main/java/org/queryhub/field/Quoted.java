@@ -0,0 +1,149 @@
+package org.queryhub.field;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.queryhub.helper.Literal;
+import org.queryhub.helper.Mutator;
+import org.queryhub.helper.Utf8;
+
+/**
+ * {@link Identifier} implementation, which keeps its string representation and encoded bytes
+ * already produced.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Quoted implements Identifier {
+
+  private static final int CAPACITY = 4_096;
+  private static final Map<String, Quoted> REGISTRY = new ConcurrentHashMap<>();
+
+  private final String name;
+  private final String text;
+  private final byte[] bytes;
+
+  /**
+   * Default constructor.
+   *
+   * @param name The name, without quotes.
+   * @since 0.1.0
+   */
+  private Quoted(final String name) {
+    this.name = name;
+    this.text = Literal.of(name);
+    this.bytes = text.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Produces an identifier, reusing the registered one for the same name. Once the registry is
+   * full, new names produce instances which are not registered.
+   *
+   * @param name The name, which leading quotes is going to be removed.
+   * @return A canonical identifier, while the registry has room for it.
+   * @since 0.1.0
+   */
+  static Quoted of(final String name) {
+    final var registered = REGISTRY.get(Objects.requireNonNull(name));
+    if (registered != null) {
+      return registered;
+    }
+    final var quoted = new Quoted(Mutator.REMOVE_REDUNDANT_DOUBLE_QUOTES.apply(name));
+    if (REGISTRY.size() >= CAPACITY) {
+      return quoted;
+    }
+    final var previous = REGISTRY.putIfAbsent(name, quoted);
+    return previous == null ? quoted : previous;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final String name() {
+    return name;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final ByteBuffer bytes() {
+    return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final String get() {
+    return text;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final <A extends Appendable> A appendTo(final A output) throws IOException {
+    if (output instanceof Utf8) {
+      ((Utf8) output).put(bytes);
+    } else {
+      output.append(text);
+    }
+    return output;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final boolean isPure() {
+    return Boolean.TRUE;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final boolean equals(final Object o) {
+    if (o == null || getClass() != o.getClass()) {
+      return Boolean.FALSE;
+    }
+    return this == o || name.equals(((Quoted) o).name);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final int hashCode() {
+    return name.hashCode();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final String toString() {
+    return text;
+  }
+}
@@ -3,7 +3,6 @@ package org.queryhub.field;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.ChronoLocalDateTime;
 import java.util.Objects;
-import org.queryhub.helper.Helper;
 import org.queryhub.helper.Mutator;
 
 /**
@@ -25,7 +24,7 @@ public interface Single extends Field {
    * @since 0.1.0
    */
   static Single of(final long value) {
-    return () -> Long.toString(value);
+    return Value.pure(value);
   }
 
   /**
@@ -39,7 +38,7 @@ public interface Single extends Field {
    * @since 0.1.0
    */
   static Single of(final boolean value) {
-    return () -> Boolean.toString(value);
+    return Value.pure(value);
   }
 
   /**
@@ -53,7 +52,7 @@ public interface Single extends Field {
    * @since 0.1.0
    */
   static Single of(final ChronoLocalDate value) {
-    return of(String.valueOf(value));
+    return Value.pure(value);
   }
 
   /**
@@ -67,7 +66,7 @@ public interface Single extends Field {
    * @since 0.1.0
    */
   static Single of(final ChronoLocalDateTime value) {
-    return of(Helper.LOCAL_DATE_TIME.format(value));
+    return Value.pure(value);
   }
 
   /**
@@ -80,8 +79,18 @@ public interface Single extends Field {
    * @since 0.1.0
    */
   static Single of(final String value) {
-    return () -> Mutator.ADD_SIMPLE_QUOTE
-      .andThen(Mutator.REMOVE_REDUNDANT_DOUBLE_QUOTES)
-      .apply(Objects.requireNonNull(value));
+    return Value.pure(Mutator.REMOVE_REDUNDANT_DOUBLE_QUOTES.apply(Objects.requireNonNull(value)));
+  }
+
+  /**
+   * Produces a shared, pre-quoted table or column reference.
+   *
+   * @param name The table's or column's name. Leading quotes is going to be removed. Cannot be
+   *             {@code null}.
+   * @return The same as {@link Identifier#of(String)}.
+   * @since 0.1.0
+   */
+  static Identifier identifier(final String name) {
+    return Identifier.of(name);
   }
 }
@@ -0,0 +1,133 @@
+package org.queryhub.field;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import org.queryhub.helper.Literal;
+
+/**
+ * Value-bearing {@link Field} implementation, produced by {@link Single}'s and {@link Multiple}'s
+ * factories. It keeps the raw values the field was created from, so they can be bound as statement
+ * parameters, while its string representation is produced from them by {@link Literal}.
+ * <p>
+ * Pure fields, which hold a single immutable value, render it only once and keep the result.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Value implements Single, Multiple {
+
+  private final Supplier<List<Object>> parameters;
+  private final boolean pure;
+  private String text;
+
+  /**
+   * Default constructor.
+   *
+   * @param parameters Supplies the raw values.
+   * @param pure       Indicates if the values always render the same way.
+   * @since 0.1.0
+   */
+  private Value(final Supplier<List<Object>> parameters, final boolean pure) {
+    this.parameters = parameters;
+    this.pure = pure;
+  }
+
+  /**
+   * Produces a value-bearing field.
+   *
+   * @param parameters Supplies the raw values, in the same order of the string representation.
+   * @return A field which string representation and parameters are lazily evaluated.
+   * @since 0.1.0
+   */
+  static Value of(final Supplier<List<Object>> parameters) {
+    return new Value(parameters, Boolean.FALSE);
+  }
+
+  /**
+   * Produces a pure value-bearing field, which string representation is cached once evaluated.
+   *
+   * @param value An immutable raw value.
+   * @return A field holding a single value.
+   * @since 0.1.0
+   */
+  static Value pure(final Object value) {
+    final var parameters = Collections.singletonList(value);
+    return new Value(() -> parameters, Boolean.TRUE);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final String get() {
+    if (!pure) {
+      return Literal.of(parameters.get());
+    }
+    var cached = text;
+    if (cached == null) {
+      cached = Literal.of(parameters.get());
+      this.text = cached;
+    }
+    return cached;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final <A extends Appendable> A appendTo(final A output) throws IOException {
+    if (pure) {
+      output.append(get());
+      return output;
+    }
+    return Literal.appendTo(output, parameters.get());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final List<Object> parameters() {
+    return parameters.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final boolean isPure() {
+    return pure;
+  }
+
+  /**
+   * Fields are equal to each other when they hold equal values.
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final boolean equals(final Object o) {
+    if (o == null || getClass() != o.getClass()) {
+      return Boolean.FALSE;
+    }
+    final var v = (Value) o;
+    return this == v || this.parameters.get().equals(v.parameters.get());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Override
+  public final int hashCode() {
+    return parameters.get().hashCode();
+  }
+}
@@ -0,0 +1,106 @@
+package org.queryhub.helper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Encodes text values as single quoted SQL literals.
+ * <p>
+ * Values are scanned once, and runs of characters which need no treatment are copied in bulk.
+ * Double quotes are removed and single quotes are doubled, so a literal can not be terminated
+ * early. Backslashes are kept as they are, since standard SQL handles them as ordinary characters,
+ * so inlined values match the ones bound as parameters.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public final class Escaper {
+
+  private static final char SIMPLE_QUOTE = '\'';
+  private static final char DOUBLE_QUOTE = '"';
+
+  /**
+   * Indexed by character, up to the greatest special one.
+   */
+  private static final boolean[] SPECIAL = new boolean[SIMPLE_QUOTE + 1];
+
+  static {
+    SPECIAL[SIMPLE_QUOTE] = Boolean.TRUE;
+    SPECIAL[DOUBLE_QUOTE] = Boolean.TRUE;
+  }
+
+  /**
+   * Non-visible constructor.
+   *
+   * @since 0.1.0
+   */
+  private Escaper() {
+  }
+
+  /**
+   * Produces a value's single quoted literal.
+   *
+   * @param value A text value.
+   * @return The value escaped and enclosed by single quotes.
+   * @since 0.1.0
+   */
+  public static String quote(final CharSequence value) {
+    final var builder = new StringBuilder(value.length() + 2);
+    try {
+      return appendTo(builder, value).toString();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes a value's single quoted literal straight into the given output.
+   *
+   * @param output The output to write into.
+   * @param value  A text value.
+   * @param <A>    The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @see #quote(CharSequence)
+   * @since 0.1.0
+   */
+  public static <A extends Appendable> A appendTo(final A output, final CharSequence value)
+    throws IOException {
+    output.append(SIMPLE_QUOTE);
+    final var length = value.length();
+    var start = 0;
+    for (var i = 0; i < length; i++) {
+      final var c = value.charAt(i);
+      if (c > SIMPLE_QUOTE || !SPECIAL[c]) {
+        continue;
+      }
+      output.append(value, start, i);
+      if (c != DOUBLE_QUOTE) {
+        output.append(c).append(c);
+      }
+      start = i + 1;
+    }
+    output.append(value, start, length).append(SIMPLE_QUOTE);
+    return output;
+  }
+
+  /**
+   * Removes the double quotes from a value.
+   *
+   * @param value A text value.
+   * @return The given value itself, when it has no double quotes. Otherwise, a copy without them.
+   * @since 0.1.0
+   */
+  public static String strip(final String value) {
+    var i = value.indexOf(DOUBLE_QUOTE);
+    if (i < 0) {
+      return value;
+    }
+    final var builder = new StringBuilder(value.length() - 1);
+    var start = 0;
+    for (; i >= 0; start = i + 1, i = value.indexOf(DOUBLE_QUOTE, start)) {
+      builder.append(value, start, i);
+    }
+    return builder.append(value, start, value.length()).toString();
+  }
+}
@@ -1,10 +1,6 @@
 package org.queryhub.helper;
 
-import static java.time.format.DateTimeFormatter.ofPattern;
-
-import java.time.format.DateTimeFormatter;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
 
 /**
  * Stateless class for grouping the package's utility resources.
@@ -16,12 +12,8 @@ import java.util.regex.Pattern;
  */
 public final class Helper {
 
-  static final String EMPTY = "";
   public static final String SPACE = " ";
 
-  public static final DateTimeFormatter LOCAL_DATE_TIME = ofPattern("YYYY-MM-dd hh:mm:ss");
-  static final Pattern DOUBLE_QUOTE = Pattern.compile("\"");
-
   /**
    * Non-visible constructor.
    *
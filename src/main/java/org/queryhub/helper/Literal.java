@@ -0,0 +1,175 @@
+package org.queryhub.helper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.util.List;
+import java.util.StringJoiner;
+import org.queryhub.Rope;
+
+/**
+ * Produces the string representation of raw values as SQL literals.
+ * <p>
+ * Numbers, booleans and {@code null} are written as they are. Date/time values are {@link
+ * Temporals encoded} and enclosed by single quotes, while any other value is {@link Escaper
+ * escaped}.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public final class Literal {
+
+  private static final String SPACED_COMMA = ", ";
+  private static final char SIMPLE_QUOTE = '\'';
+  private static final int TEMPORAL_LENGTH = 37;
+
+  /**
+   * Non-visible constructor.
+   *
+   * @since 0.1.0
+   */
+  private Literal() {
+  }
+
+  /**
+   * Produces a value's literal.
+   *
+   * @param value A raw value.
+   * @return The value's string representation, according to its type.
+   * @since 0.1.0
+   */
+  public static String of(final Object value) {
+    if (value == null || value instanceof Number || value instanceof Boolean) {
+      return String.valueOf(value);
+    }
+    if (isTemporal(value)) {
+      try {
+        return appendTo(new StringBuilder(TEMPORAL_LENGTH), value).toString();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return Escaper.quote(String.valueOf(value));
+  }
+
+  /**
+   * Produces the literals of a sequence of values.
+   *
+   * @param values Raw values.
+   * @return Each value's string representation, according to its type, separated by commas.
+   * @since 0.1.0
+   */
+  public static String of(final List<?> values) {
+    final var joiner = new StringJoiner(SPACED_COMMA);
+    for (final var value : values) {
+      joiner.add(of(value));
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * Writes a value's literal straight into the given output. Numbers and booleans are written
+   * without intermediate strings whenever the output is a {@link StringBuilder}, as integral
+   * numbers are when it is an {@link Utf8} output.
+   *
+   * @param output The output to write into.
+   * @param value  A raw value.
+   * @param <A>    The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @see #of(Object)
+   * @since 0.1.0
+   */
+  public static <A extends Appendable> A appendTo(final A output, final Object value)
+    throws IOException {
+    if (output instanceof Utf8 && (value instanceof Long || value instanceof Integer
+      || value instanceof Short || value instanceof Byte)) {
+      ((Utf8) output).put(((Number) value).longValue());
+      return output;
+    }
+    if (output instanceof StringBuilder && value instanceof Number) {
+      final var builder = (StringBuilder) output;
+      if (value instanceof Long || value instanceof Integer || value instanceof Short
+        || value instanceof Byte) {
+        builder.append(((Number) value).longValue());
+        return output;
+      }
+      if (value instanceof Double) {
+        builder.append(((Double) value).doubleValue());
+        return output;
+      }
+    }
+    if (value instanceof Boolean) {
+      output.append(String.valueOf(((Boolean) value).booleanValue()));
+      return output;
+    }
+    if (isTemporal(value)) {
+      output.append(SIMPLE_QUOTE);
+      if (value instanceof ChronoLocalDateTime) {
+        Temporals.appendTo(output, (ChronoLocalDateTime<?>) value);
+      } else if (value instanceof ChronoLocalDate) {
+        Temporals.appendTo(output, (ChronoLocalDate) value);
+      } else if (value instanceof OffsetDateTime) {
+        Temporals.appendTo(output, (OffsetDateTime) value);
+      } else {
+        Temporals.appendTo(output, ((ZonedDateTime) value).toOffsetDateTime());
+      }
+      output.append(SIMPLE_QUOTE);
+      return output;
+    }
+    if (value == null || value instanceof Number) {
+      output.append(of(value));
+      return output;
+    }
+    return Escaper.appendTo(output, value instanceof CharSequence
+      ? (CharSequence) value : String.valueOf(value));
+  }
+
+  /**
+   * Writes the literals of a sequence of values straight into the given output. {@link Rope Ropes}
+   * may render large sequences concurrently.
+   *
+   * @param output The output to write into.
+   * @param values Raw values.
+   * @param <A>    The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @see #of(List)
+   * @since 0.1.0
+   */
+  public static <A extends Appendable> A appendTo(final A output, final List<?> values)
+    throws IOException {
+    if (output instanceof Rope) {
+      ((Rope) output).join(values.size(), SPACED_COMMA, (builder, i) -> {
+        try {
+          appendTo(builder, values.get(i));
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      return output;
+    }
+    for (var i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        output.append(SPACED_COMMA);
+      }
+      appendTo(output, values.get(i));
+    }
+    return output;
+  }
+
+  // Private
+
+  /**
+   * @param value A raw value.
+   * @return If the value is a date/time which is {@link Temporals encoded}.
+   * @since 0.1.0
+   */
+  private static boolean isTemporal(final Object value) {
+    return value instanceof ChronoLocalDateTime || value instanceof ChronoLocalDate
+      || value instanceof OffsetDateTime || value instanceof ZonedDateTime;
+  }
+}
@@ -14,7 +14,7 @@ import java.util.function.UnaryOperator;
 public enum Mutator implements UnaryOperator<String> {
   ADD_SIMPLE_QUOTE(s -> "'" + s + "'"), // TODO: back-ticks
   ADD_PARENTHESIS(s -> "(" + s + ")"),
-  REMOVE_REDUNDANT_DOUBLE_QUOTES(s -> Helper.DOUBLE_QUOTE.matcher(s).replaceAll(Helper.EMPTY)),
+  REMOVE_REDUNDANT_DOUBLE_QUOTES(Escaper::strip),
   ;
   private final UnaryOperator<String> fun;
 
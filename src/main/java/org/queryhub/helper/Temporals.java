@@ -0,0 +1,188 @@
+package org.queryhub.helper;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.IsoChronology;
+
+/**
+ * Encodes date/time values as ISO digits, straight into the output and without any intermediate
+ * objects.
+ * <p>
+ * Dates are written as {@code yyyy-MM-dd} and date/times as {@code yyyy-MM-dd HH:mm:ss}, followed
+ * by fractional seconds when they are not zero, with as many digits as needed among 3, 6 and 9.
+ * Offset date/times are followed by their offset, as {@code +HH:MM}. Values from chronologies
+ * other than the ISO one are converted to it.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public final class Temporals {
+
+  private static final int YEAR_DIGITS = 4;
+  private static final int MAX_YEAR = 9_999;
+  private static final int SECONDS_PER_HOUR = 3_600;
+  private static final int SECONDS_PER_MINUTE = 60;
+  private static final int NANOS_PER_MILLI = 1_000_000;
+  private static final int NANOS_PER_MICRO = 1_000;
+
+  /**
+   * Non-visible constructor.
+   *
+   * @since 0.1.0
+   */
+  private Temporals() {
+  }
+
+  /**
+   * Writes a date as {@code yyyy-MM-dd}.
+   *
+   * @param output The output to write into.
+   * @param date   A date.
+   * @param <A>    The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  public static <A extends Appendable> A appendTo(final A output, final ChronoLocalDate date)
+    throws IOException {
+    final var iso = date instanceof LocalDate ? (LocalDate) date : LocalDate.from(date);
+    year(output, iso.getYear());
+    digits(output.append('-'), iso.getMonthValue(), 2);
+    digits(output.append('-'), iso.getDayOfMonth(), 2);
+    return output;
+  }
+
+  /**
+   * Writes a date/time as {@code yyyy-MM-dd HH:mm:ss}, followed by fractional seconds when they
+   * are not zero.
+   *
+   * @param output   The output to write into.
+   * @param dateTime A date/time.
+   * @param <A>      The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  public static <A extends Appendable> A appendTo(final A output,
+    final ChronoLocalDateTime<?> dateTime) throws IOException {
+    final var date = dateTime.getChronology() == IsoChronology.INSTANCE
+      ? dateTime.toLocalDate() : LocalDate.from(dateTime.toLocalDate());
+    appendTo(output, date).append(' ');
+    return appendTo(output, dateTime.toLocalTime());
+  }
+
+  /**
+   * Writes an offset date/time as {@code yyyy-MM-dd HH:mm:ss+HH:MM}, with fractional seconds
+   * before the offset when they are not zero.
+   *
+   * @param output   The output to write into.
+   * @param dateTime An offset date/time.
+   * @param <A>      The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  public static <A extends Appendable> A appendTo(final A output, final OffsetDateTime dateTime)
+    throws IOException {
+    appendTo(output, (ChronoLocalDateTime<LocalDate>) dateTime.toLocalDateTime());
+    return appendTo(output, dateTime.getOffset());
+  }
+
+  /**
+   * Writes a time as {@code HH:mm:ss}, followed by fractional seconds when they are not zero.
+   *
+   * @param output The output to write into.
+   * @param time   A time.
+   * @param <A>    The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  public static <A extends Appendable> A appendTo(final A output, final LocalTime time)
+    throws IOException {
+    digits(output, time.getHour(), 2);
+    digits(output.append(':'), time.getMinute(), 2);
+    digits(output.append(':'), time.getSecond(), 2);
+    final var nano = time.getNano();
+    if (nano == 0) {
+      return output;
+    }
+    output.append('.');
+    if (nano % NANOS_PER_MILLI == 0) {
+      digits(output, nano / NANOS_PER_MILLI, 3);
+    } else if (nano % NANOS_PER_MICRO == 0) {
+      digits(output, nano / NANOS_PER_MICRO, 6);
+    } else {
+      digits(output, nano, 9);
+    }
+    return output;
+  }
+
+  /**
+   * Writes an offset as {@code +HH:MM}, followed by {@code :SS} when its seconds are not zero.
+   *
+   * @param output The output to write into.
+   * @param offset An offset.
+   * @param <A>    The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  public static <A extends Appendable> A appendTo(final A output, final ZoneOffset offset)
+    throws IOException {
+    final var total = offset.getTotalSeconds();
+    final var absolute = Math.abs(total);
+    output.append(total < 0 ? '-' : '+');
+    digits(output, absolute / SECONDS_PER_HOUR, 2);
+    digits(output.append(':'), absolute / SECONDS_PER_MINUTE % SECONDS_PER_MINUTE, 2);
+    if (absolute % SECONDS_PER_MINUTE != 0) {
+      digits(output.append(':'), absolute % SECONDS_PER_MINUTE, 2);
+    }
+    return output;
+  }
+
+  // Private
+
+  /**
+   * Writes a year with four digits. Years beyond them are written with their sign, if negative,
+   * and as many digits as needed.
+   *
+   * @param output The output to write into.
+   * @param year   A year.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  private static void year(final Appendable output, final int year) throws IOException {
+    if (year >= 0 && year <= MAX_YEAR) {
+      digits(output, year, YEAR_DIGITS);
+    } else {
+      output.append(String.valueOf(year));
+    }
+  }
+
+  /**
+   * Writes a non-negative number left-padded with zeroes.
+   *
+   * @param output The output to write into.
+   * @param value  A non-negative number, which fits into the given width.
+   * @param width  How many digits to write.
+   * @throws IOException if the output fails to be written.
+   * @since 0.1.0
+   */
+  private static void digits(final Appendable output, final int value, final int width)
+    throws IOException {
+    var divisor = 1;
+    for (var i = 1; i < width; i++) {
+      divisor *= 10;
+    }
+    for (var remainder = value; divisor > 0; divisor /= 10) {
+      output.append((char) ('0' + remainder / divisor));
+      remainder %= divisor;
+    }
+  }
+}
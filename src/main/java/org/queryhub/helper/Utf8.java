@@ -0,0 +1,188 @@
+package org.queryhub.helper;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link Appendable} which encodes its characters as UTF-8 straight into a {@link ByteBuffer}, so
+ * a statement is written to the wire without ever existing as a {@link String}.
+ * <p>
+ * ASCII characters, which make up most of a statement, take a single byte each. Constant parts,
+ * such as keywords and identifiers, can be written as they were encoded beforehand, while numbers
+ * are written as digits without intermediate strings. Unpaired surrogates are replaced by {@code
+ * '?'}, as {@link java.nio.charset.StandardCharsets#UTF_8} does.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public final class Utf8 implements Appendable {
+
+  private static final byte REPLACEMENT = '?';
+  private static final int MAX_DIGITS = 19;
+  private static final byte[] MIN_VALUE =
+    String.valueOf(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+  private final ByteBuffer buffer;
+  private char high;
+
+  /**
+   * Default constructor.
+   *
+   * @param buffer The buffer to write into, from its current position.
+   * @since 0.1.0
+   */
+  public Utf8(final ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws BufferOverflowException if the buffer has no room for the character.
+   * @since 0.1.0
+   */
+  @Override
+  public final Utf8 append(final char c) {
+    if (c < 0x80 && high == 0) {
+      buffer.put((byte) c);
+    } else {
+      encode(c);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws BufferOverflowException if the buffer has no room for the characters.
+   * @since 0.1.0
+   */
+  @Override
+  public final Utf8 append(final CharSequence csq) {
+    return csq == null ? append("null", 0, 4) : append(csq, 0, csq.length());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws BufferOverflowException if the buffer has no room for the characters.
+   * @since 0.1.0
+   */
+  @Override
+  public final Utf8 append(final CharSequence csq, final int start, final int end) {
+    final var sequence = csq == null ? "null" : csq;
+    for (var i = start; i < end; i++) {
+      append(sequence.charAt(i));
+    }
+    return this;
+  }
+
+  /**
+   * Writes bytes encoded beforehand.
+   *
+   * @param bytes UTF-8 bytes.
+   * @return This output.
+   * @throws BufferOverflowException if the buffer has no room for the bytes.
+   * @since 0.1.0
+   */
+  public final Utf8 put(final byte[] bytes) {
+    flush();
+    buffer.put(bytes);
+    return this;
+  }
+
+  /**
+   * Writes a number as ASCII digits. Nothing is written when the buffer has no room for all of
+   * them.
+   *
+   * @param value A number.
+   * @return This output.
+   * @throws BufferOverflowException if the buffer has no room for the digits.
+   * @since 0.1.0
+   */
+  public final Utf8 put(final long value) {
+    flush();
+    if (value == Long.MIN_VALUE) {
+      return put(MIN_VALUE);
+    }
+    final var sign = value < 0 ? 1 : 0;
+    var remainder = Math.abs(value);
+    var length = 1;
+    for (var bound = 10L; length < MAX_DIGITS && remainder >= bound; bound *= 10) {
+      length++;
+    }
+    if (buffer.remaining() < sign + length) {
+      throw new BufferOverflowException();
+    }
+    if (sign > 0) {
+      buffer.put((byte) '-');
+    }
+    final var start = buffer.position();
+    for (var i = start + length - 1; i >= start; i--) {
+      buffer.put(i, (byte) ('0' + remainder % 10));
+      remainder /= 10;
+    }
+    buffer.position(start + length);
+    return this;
+  }
+
+  /**
+   * Finishes the output, replacing a trailing unpaired surrogate, if any.
+   *
+   * @return The buffer written into.
+   * @since 0.1.0
+   */
+  public final ByteBuffer finish() {
+    flush();
+    return buffer;
+  }
+
+  // Private
+
+  /**
+   * Encodes a non-ASCII character, or any character following a high surrogate.
+   *
+   * @param c A character.
+   * @since 0.1.0
+   */
+  private void encode(final char c) {
+    if (high != 0) {
+      if (Character.isLowSurrogate(c)) {
+        final var codePoint = Character.toCodePoint(high, c);
+        this.high = 0;
+        buffer.put((byte) (0xF0 | codePoint >> 18))
+          .put((byte) (0x80 | codePoint >> 12 & 0x3F))
+          .put((byte) (0x80 | codePoint >> 6 & 0x3F))
+          .put((byte) (0x80 | codePoint & 0x3F));
+        return;
+      }
+      flush();
+    }
+    if (c < 0x80) {
+      buffer.put((byte) c);
+    } else if (c < 0x800) {
+      buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+    } else if (Character.isHighSurrogate(c)) {
+      this.high = c;
+    } else if (Character.isLowSurrogate(c)) {
+      buffer.put(REPLACEMENT);
+    } else {
+      buffer.put((byte) (0xE0 | c >> 12))
+        .put((byte) (0x80 | c >> 6 & 0x3F))
+        .put((byte) (0x80 | c & 0x3F));
+    }
+  }
+
+  /**
+   * Replaces a pending high surrogate, which was not followed by a low one.
+   *
+   * @since 0.1.0
+   */
+  private void flush() {
+    if (high != 0) {
+      this.high = 0;
+      buffer.put(REPLACEMENT);
+    }
+  }
+}
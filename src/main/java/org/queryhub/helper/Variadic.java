@@ -1,8 +1,14 @@
 package org.queryhub.helper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.StringJoiner;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import org.queryhub.Rope;
 
 /**
  * Groups static methods which their return cna be used as functors.
@@ -36,14 +42,58 @@ public final class Variadic {
     };
   }
 
-  //  private static <T, U> BiFunction<T, T[], U[]>
-  //  asArray(final Function<T, U> mapper, final IntFunction<U[]> generator) {
-  //    return (t, ts) -> {
-  //      final var arr = generator.apply(ts.length + 1);
-  //      for (var i = 0; i < ts.length + 1; i++) {
-  //        arr[i] = mapper.apply(i == 0 ? t : ts[i - 1]);
-  //      }
-  //      return arr;
-  //    };
-  //  }
+  /**
+   * Combines variadic arguments into a string representation, written straight into the given
+   * output, such as a {@link Rope}, rather than joined into an intermediate string. Ropes may
+   * render large sequences concurrently, in which case the mapper is called concurrently as well.
+   *
+   * @param <T>    Inferred type for the variadic parameters.
+   * @param <A>    The output's type.
+   * @param output The output to write into.
+   * @param mapper A mapping function which converts one type to another.
+   * @return A bi-function to apply on variadic parameters, which returns the given output.
+   * @throws java.io.UncheckedIOException when applied, if the output fails to be written.
+   * @since 0.1.0
+   */
+  public static <T, A extends Appendable> BiFunction<T, T[], A> appendTo(final A output,
+    final Function<T, String> mapper) {
+    return (t, tt) -> {
+      if (output instanceof Rope) {
+        ((Rope) output).join(tt.length + 1, SPACED_COMMA,
+          (builder, i) -> builder.append(mapper.apply(i == 0 ? t : tt[i - 1])));
+        return output;
+      }
+      try {
+        for (var i = 0; i < tt.length + 1; i++) {
+          if (i > 0) {
+            output.append(SPACED_COMMA);
+          }
+          output.append(mapper.apply(i == 0 ? t : tt[i - 1]));
+        }
+        return output;
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+  }
+
+  /**
+   * Combines variadic arguments into an unmodifiable list, keeping their order.
+   *
+   * @param <T>    Inferred type for the variadic parameters.
+   * @param <U>    The list's elements type.
+   * @param mapper A mapping function which converts one type to another.
+   * @return A bi-function to apply on variadic parameters which are eventually going to be handled
+   * by some other method. Unlike {@link List#of}, {@code null} items are tolerated.
+   * @since 0.1.0
+   */
+  public static <T, U> BiFunction<T, T[], List<U>> asList(final Function<T, U> mapper) {
+    return (t, tt) -> {
+      final var list = new ArrayList<U>(tt.length + 1);
+      for (var i = 0; i < tt.length + 1; i++) {
+        list.add(mapper.apply(i == 0 ? t : tt[i - 1]));
+      }
+      return Collections.unmodifiableList(list);
+    };
+  }
 }
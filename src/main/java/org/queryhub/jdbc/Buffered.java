@@ -0,0 +1,260 @@
+package org.queryhub.jdbc;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.queryhub.Query;
+import org.queryhub.field.Field;
+import org.queryhub.field.Single;
+import org.queryhub.steps.Statement;
+
+/**
+ * {@link UnitOfWork} implementation. Writes are kept sorted as they are buffered, by tables' and
+ * columns' names, and by keys' values.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Buffered implements UnitOfWork {
+
+  private static final Comparator<Single> BY_NAME = Comparator.comparing(Single::get);
+
+  private final Session session;
+  private final Map<Single, Table> tables = new TreeMap<>(BY_NAME);
+
+  /**
+   * Default constructor.
+   *
+   * @param session The session to send the writes through.
+   * @since 0.1.0
+   */
+  Buffered(final Session session) {
+    this.session = Objects.requireNonNull(session);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final UnitOfWork insert(final Single table, final Field row) {
+    tables.computeIfAbsent(table, Table::new).inserts.add(row);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final UnitOfWork update(final Single table, final Single key, final Single id,
+    final Single column, final Single value) {
+    tables.computeIfAbsent(table, Table::new).updates
+      .computeIfAbsent(new Row(key, id), row -> new TreeMap<>(BY_NAME))
+      .put(column, value);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final int size() {
+    var size = 0;
+    for (final var table : tables.values()) {
+      size += table.inserts.size() + table.updates.size();
+    }
+    return size;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final int[] flush() throws SQLException {
+    final var statements = new ArrayList<Statement>(size());
+    for (final var table : tables.values()) {
+      for (final var row : table.inserts) {
+        statements.add(Query.insert(table.name).values(row).prepare(Boolean.FALSE));
+      }
+      for (final var update : table.updates.entrySet()) {
+        final var columns = update.getValue().entrySet().iterator();
+        final var first = columns.next();
+        var statement = Query.update(table.name).set(first.getKey(), first.getValue());
+        while (columns.hasNext()) {
+          final var column = columns.next();
+          statement = statement.and(column.getKey(), column.getValue());
+        }
+        final var row = update.getKey();
+        statements.add(statement.where(row.key, row.id).prepare(Boolean.FALSE));
+      }
+    }
+    try {
+      return session.batch(statements);
+    } finally {
+      clear();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final void clear() {
+    tables.clear();
+  }
+
+  /**
+   * The writes buffered for a table.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  private static final class Table {
+
+    private final Single name;
+    private final List<Field> inserts = new ArrayList<>();
+    private final Map<Row, Map<Single, Single>> updates = new TreeMap<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param name The table.
+     * @since 0.1.0
+     */
+    private Table(final Single name) {
+      this.name = name;
+    }
+  }
+
+  /**
+   * A row, identified by its key and key's value. Rows are ordered by their keys' names, then by
+   * their values: numbers come first, compared numerically whatever their types, then comparable
+   * values, compared by their classes' names and then as they are, then any other value, compared
+   * by its string representation. Thus, the same row is always merged into a single entry.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  private static final class Row implements Comparable<Row> {
+
+    private static final int NUMBER = 0;
+    private static final int COMPARABLE = 1;
+    private static final int OTHER = 2;
+
+    private final Single key;
+    private final Single id;
+
+    /**
+     * Default constructor.
+     *
+     * @param key The key which identifies the row.
+     * @param id  The key's value.
+     * @since 0.1.0
+     */
+    private Row(final Single key, final Single id) {
+      this.key = key;
+      this.id = id;
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public final int compareTo(final Row other) {
+      final var byKey = BY_NAME.compare(key, other.key);
+      if (byKey != 0) {
+        return byKey;
+      }
+      final var left = id.parameters();
+      final var right = other.id.parameters();
+      final var byKind = Integer.compare(kind(left), kind(right));
+      if (byKind != 0) {
+        return byKind;
+      }
+      if (kind(left) == NUMBER) {
+        return compare((Number) left.get(0), (Number) right.get(0));
+      }
+      if (kind(left) == COMPARABLE) {
+        final var byClass = left.get(0).getClass().getName()
+          .compareTo(right.get(0).getClass().getName());
+        return byClass != 0 ? byClass : ((Comparable) left.get(0)).compareTo(right.get(0));
+      }
+      return BY_NAME.compare(id, other.id);
+    }
+
+    /**
+     * @param values A key's values.
+     * @return How the values are compared: as a {@link #NUMBER number}, as a {@link #COMPARABLE
+     * comparable} value, or by their string representation otherwise.
+     * @since 0.1.0
+     */
+    private static int kind(final List<Object> values) {
+      if (values.size() != 1) {
+        return OTHER;
+      }
+      final var value = values.get(0);
+      if (value instanceof Number) {
+        return NUMBER;
+      }
+      return value instanceof Comparable ? COMPARABLE : OTHER;
+    }
+
+    /**
+     * @param left  A number.
+     * @param right Another number.
+     * @return Both numbers compared by their values, whatever their types.
+     * @since 0.1.0
+     */
+    private static int compare(final Number left, final Number right) {
+      if (isIntegral(left) && isIntegral(right)) {
+        return Long.compare(left.longValue(), right.longValue());
+      }
+      return decimal(left).compareTo(decimal(right));
+    }
+
+    /**
+     * @param number A number.
+     * @return If the number is a primitive integral one, which fits into a {@code long}.
+     * @since 0.1.0
+     */
+    private static boolean isIntegral(final Number number) {
+      return number instanceof Long || number instanceof Integer || number instanceof Short
+        || number instanceof Byte;
+    }
+
+    /**
+     * @param number A number.
+     * @return The number as a decimal.
+     * @throws NumberFormatException if the number is not finite.
+     * @since 0.1.0
+     */
+    private static BigDecimal decimal(final Number number) {
+      if (number instanceof BigDecimal) {
+        return (BigDecimal) number;
+      }
+      if (number instanceof BigInteger) {
+        return new BigDecimal((BigInteger) number);
+      }
+      if (isIntegral(number)) {
+        return BigDecimal.valueOf(number.longValue());
+      }
+      return new BigDecimal(number.toString());
+    }
+  }
+}
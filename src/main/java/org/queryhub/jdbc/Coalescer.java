@@ -0,0 +1,96 @@
+package org.queryhub.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.queryhub.field.Field;
+import org.queryhub.field.Single;
+import org.queryhub.helper.Helper;
+import org.queryhub.steps.Batch.Limits;
+
+/**
+ * Coalesces single-row inserts submitted by many threads into multi-row statements, which are
+ * executed by a single flushing thread on its own connection:
+ * <p>
+ * <pre>{@code
+ *
+ *   private static final Single EVENTS = () -> "events";
+ *
+ *   final var coalescer = Coalescer.of(connection, Duration.ofMillis(2), 500);
+ *   coalescer.submit(EVENTS, Multiple.of(id, type)).join();
+ *
+ * }</pre>
+ * <p>
+ * Once a row is submitted, the flusher waits up to the given latency, or until the given amount
+ * of rows is queued, then inserts every queued row with as few statements per table as the given
+ * {@link Limits limits} allow. The statements of each table are committed at once, so a table's
+ * rows are either all inserted or none of them is.
+ * <p>
+ * When a statement fails, its rows are inserted again one by one, so only the callers of the rows
+ * which fail on their own see a failure. Futures are completed by the flushing thread, therefore
+ * callbacks attached to them should not block. If the flushing thread is stopped by an error, the
+ * coalescer is closed, and every row which is not inserted yet fails with that error.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public interface Coalescer extends AutoCloseable {
+
+  /**
+   * Produces a coalescer, starting its flushing thread, which inserts rows with statements within
+   * the {@link Limits#DEFAULT default limits}.
+   *
+   * @param connection The connection to insert rows on, which should be used by no one else.
+   * @param latency    How long a submitted row waits for others, at most.
+   * @param rows       How many rows each group holds at most.
+   * @return A thread-safe coalescer.
+   * @throws IllegalArgumentException if the latency is negative, or the amount of rows is lower
+   *                                  than {@code 1}.
+   * @see #of(Connection, Duration, int, Limits)
+   * @since 0.1.0
+   */
+  static Coalescer of(final Connection connection, final Duration latency, final int rows) {
+    return of(connection, latency, rows, Limits.DEFAULT);
+  }
+
+  /**
+   * Produces a coalescer, starting its flushing thread.
+   *
+   * @param connection The connection to insert rows on, which should be used by no one else.
+   * @param latency    How long a submitted row waits for others, at most.
+   * @param rows       How many rows each group holds at most.
+   * @param limits     Limits for each of the statements a group is inserted with.
+   * @return A thread-safe coalescer.
+   * @throws IllegalArgumentException if the latency is negative, or the amount of rows is lower
+   *                                  than {@code 1}.
+   * @since 0.1.0
+   */
+  static Coalescer of(final Connection connection, final Duration latency, final int rows,
+    final Limits limits) {
+    Helper.throwIf(IllegalArgumentException::new, latency.isNegative() || rows < 1);
+    return Grouped.start(connection, latency.toNanos(), rows, limits);
+  }
+
+  /**
+   * Queues a row to be inserted into the given table, along with the rows submitted by other
+   * threads within the same window.
+   *
+   * @param table The table to insert the row into.
+   * @param row   The row, with its values.
+   * @return A future, completed once the row is inserted, or completed exceptionally with the
+   * failure of its insertion.
+   * @throws IllegalStateException if the coalescer is closed.
+   * @since 0.1.0
+   */
+  CompletableFuture<Void> submit(final Single table, final Field row);
+
+  /**
+   * Inserts every queued row, then stops the flushing thread. The connection is left open.
+   *
+   * @throws SQLException if the prepared statements fail to be closed.
+   * @since 0.1.0
+   */
+  @Override
+  void close() throws SQLException;
+}
@@ -0,0 +1,286 @@
+package org.queryhub.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.queryhub.Query;
+import org.queryhub.field.Field;
+import org.queryhub.field.Single;
+import org.queryhub.helper.Helper;
+import org.queryhub.steps.Batch.Limits;
+
+/**
+ * {@link Coalescer} implementation. Submitted rows are queued, and a single thread takes them in
+ * groups, which are inserted through a {@link Session}.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Grouped implements Coalescer, Runnable {
+
+  private static final String NAME = "queryhub-coalescer";
+  private static final Pending END = new Pending(null, null);
+
+  private final Connection connection;
+  private final Session session;
+  private final long latency;
+  private final int rows;
+  private final Limits limits;
+  private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+  private final Thread flusher;
+  private boolean closed;
+
+  /**
+   * Default constructor.
+   *
+   * @param connection The connection to insert rows on.
+   * @param latency    How long a submitted row waits for others, at most, in nanoseconds.
+   * @param rows       How many rows each group holds at most.
+   * @param limits     Limits for each of the statements a group is inserted with.
+   * @since 0.1.0
+   */
+  private Grouped(final Connection connection, final long latency, final int rows,
+    final Limits limits) {
+    this.connection = connection;
+    this.session = Session.of(connection);
+    this.latency = latency;
+    this.rows = rows;
+    this.limits = limits;
+    this.flusher = new Thread(this, NAME);
+    this.flusher.setDaemon(Boolean.TRUE);
+  }
+
+  /**
+   * Produces a coalescer, starting its flushing thread.
+   *
+   * @param connection The connection to insert rows on.
+   * @param latency    How long a submitted row waits for others, at most, in nanoseconds.
+   * @param rows       How many rows each group holds at most.
+   * @param limits     Limits for each of the statements a group is inserted with.
+   * @return A running coalescer.
+   * @since 0.1.0
+   */
+  static Grouped start(final Connection connection, final long latency, final int rows,
+    final Limits limits) {
+    final var grouped = new Grouped(connection, latency, rows, limits);
+    grouped.flusher.start();
+    return grouped;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final CompletableFuture<Void> submit(final Single table, final Field row) {
+    final var pending = new Pending(table, row);
+    synchronized (queue) {
+      Helper.throwIf(IllegalStateException::new, closed);
+      queue.add(pending);
+    }
+    return pending.future;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final void close() throws SQLException {
+    synchronized (queue) {
+      if (closed) {
+        return;
+      }
+      this.closed = Boolean.TRUE;
+      queue.add(END);
+    }
+    try {
+      flusher.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    session.close();
+  }
+
+  /**
+   * Takes the queued rows in groups, until the coalescer is closed. When an error is thrown, the
+   * coalescer is closed, and every row which is not inserted yet fails with it.
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final void run() {
+    final var group = new ArrayList<Pending>(rows);
+    Throwable failure = new IllegalStateException(NAME);
+    try {
+      take(group);
+    } catch (final Error e) {
+      synchronized (queue) {
+        this.closed = Boolean.TRUE;
+      }
+      try {
+        session.close();
+      } catch (final SQLException f) {
+        e.addSuppressed(f);
+      }
+      failure = e;
+      throw e;
+    } finally {
+      queue.drainTo(group);
+      for (final var pending : group) {
+        if (pending != END) {
+          pending.future.completeExceptionally(failure);
+        }
+      }
+    }
+  }
+
+  // Private
+
+  /**
+   * Takes the queued rows in groups and flushes them, until the coalescer is closed. When the
+   * thread is interrupted, the coalescer is closed, so no row is queued after the last group.
+   *
+   * @param group The list to gather each group into, which holds the group being flushed when
+   *              anything is thrown.
+   * @since 0.1.0
+   */
+  private void take(final List<Pending> group) {
+    var running = Boolean.TRUE;
+    while (running) {
+      try {
+        final var first = queue.take();
+        if (first == END) {
+          break;
+        }
+        group.add(first);
+        final var deadline = System.nanoTime() + latency;
+        while (group.size() < rows) {
+          final var next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          if (next == END) {
+            running = Boolean.FALSE;
+            break;
+          }
+          group.add(next);
+        }
+      } catch (final InterruptedException e) {
+        synchronized (queue) {
+          this.closed = Boolean.TRUE;
+        }
+        running = Boolean.FALSE;
+      }
+      flush(group);
+      group.clear();
+    }
+  }
+
+  /**
+   * Inserts a group of rows with a single statement per table, keeping the tables' order.
+   *
+   * @param group The rows.
+   * @since 0.1.0
+   */
+  private void flush(final List<Pending> group) {
+    final var tables = new LinkedHashMap<Single, List<Pending>>();
+    for (final var pending : group) {
+      tables.computeIfAbsent(pending.table, table -> new ArrayList<>()).add(pending);
+    }
+    for (final var entry : tables.entrySet()) {
+      final var pending = entry.getValue();
+      try {
+        insert(entry.getKey(), pending);
+        for (final var each : pending) {
+          each.future.complete(null);
+        }
+      } catch (final SQLException | RuntimeException e) {
+        if (pending.size() == 1) {
+          pending.get(0).future.completeExceptionally(e);
+          continue;
+        }
+        for (final var each : pending) {
+          try {
+            insert(entry.getKey(), List.of(each));
+            each.future.complete(null);
+          } catch (final SQLException | RuntimeException f) {
+            each.future.completeExceptionally(f);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Inserts rows with as few statements as their limits allow, within a single transaction: the
+   * statements are committed once all of them succeed, or rolled back when any of them fails.
+   *
+   * @param table   The table to insert the rows into.
+   * @param pending The rows.
+   * @throws SQLException if the rows fail to be inserted.
+   * @since 0.1.0
+   */
+  private void insert(final Single table, final List<Pending> pending) throws SQLException {
+    final var values = new ArrayList<Field>(pending.size());
+    for (final var each : pending) {
+      values.add(each.row);
+    }
+    final var statements = Query.insert(table).values(values, limits).prepare(Boolean.FALSE);
+    final var automatic = connection.getAutoCommit();
+    if (automatic && statements.size() > 1) {
+      connection.setAutoCommit(Boolean.FALSE);
+    }
+    try {
+      for (final var statement : statements) {
+        session.update(statement);
+      }
+      if (!connection.getAutoCommit()) {
+        connection.commit();
+      }
+    } catch (final SQLException | RuntimeException e) {
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+      }
+      throw e;
+    } finally {
+      if (automatic != connection.getAutoCommit()) {
+        connection.setAutoCommit(automatic);
+      }
+    }
+  }
+
+  /**
+   * A submitted row, along with its caller's future.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  private static final class Pending {
+
+    private final Single table;
+    private final Field row;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param table The table to insert the row into.
+     * @param row   The row.
+     * @since 0.1.0
+     */
+    private Pending(final Single table, final Field row) {
+      this.table = table;
+      this.row = row;
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package org.queryhub.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.queryhub.helper.Helper;
+import org.queryhub.steps.Statement;
+
+/**
+ * {@link Session} implementation. Keeps the prepared statements in access order, so the least
+ * recently used one is the first to be closed once the session is full.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+final class Prepared implements Session {
+
+  static final int CAPACITY = 64;
+  static final int BATCH = 1_000;
+
+  private final Connection connection;
+  private final Map<String, PreparedStatement> statements;
+  private final int capacity;
+
+  /**
+   * Default constructor.
+   *
+   * @param connection The connection to execute statements on.
+   * @param capacity   How many prepared statements are kept at most.
+   * @since 0.1.0
+   */
+  Prepared(final Connection connection, final int capacity) {
+    this.connection = Objects.requireNonNull(connection);
+    this.statements = new LinkedHashMap<>(capacity, 0.75F, Boolean.TRUE);
+    this.capacity = capacity;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final PreparedStatement prepare(final Statement statement) throws SQLException {
+    final var sql = statement.sql();
+    var prepared = statements.get(sql);
+    if (prepared == null || prepared.isClosed()) {
+      prepared = connection.prepareStatement(sql);
+      statements.put(sql, prepared);
+      evict();
+    } else {
+      prepared.clearParameters();
+    }
+    final var parameters = statement.parameters();
+    for (var i = 0; i < parameters.size(); i++) {
+      prepared.setObject(i + 1, parameters.get(i));
+    }
+    return prepared;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final int update(final Statement statement) throws SQLException {
+    return prepare(statement).executeUpdate();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final <T> List<T> query(final Statement statement, final Mapper<T> mapper)
+    throws SQLException {
+    try (final var rows = prepare(statement).executeQuery()) {
+      final var result = new ArrayList<T>();
+      while (rows.next()) {
+        result.add(mapper.map(rows));
+      }
+      return result;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final int[] batch(final Iterable<? extends Statement> statements) throws SQLException {
+    return batch(statements, BATCH);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Each batch is executed before the next shape is prepared, so it is not closed by an eviction
+   * while it is pending. When anything fails, the pending batch is cleared, so its statements are
+   * not sent along with the next batch of the same shape.
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final int[] batch(final Iterable<? extends Statement> statements, final int size)
+    throws SQLException {
+    Helper.throwIf(IllegalArgumentException::new, size < 1);
+    final var batches = new ArrayList<int[]>();
+    PreparedStatement current = null;
+    String shape = null;
+    var pending = 0;
+    try {
+      for (final var statement : statements) {
+        final var sql = statement.sql();
+        if (pending == size || pending > 0 && !sql.equals(shape)) {
+          batches.add(current.executeBatch());
+          pending = 0;
+        }
+        current = prepare(statement);
+        current.addBatch();
+        shape = sql;
+        pending++;
+      }
+      if (pending > 0) {
+        batches.add(current.executeBatch());
+      }
+    } catch (final SQLException | RuntimeException e) {
+      if (current != null) {
+        try {
+          current.clearBatch();
+        } catch (final SQLException f) {
+          e.addSuppressed(f);
+        }
+      }
+      throw e;
+    }
+    return flatten(batches);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final int size() {
+    return statements.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 0.1.0
+   */
+  @Override
+  public final void close() throws SQLException {
+    final var iterator = statements.values().iterator();
+    while (iterator.hasNext()) {
+      final var prepared = iterator.next();
+      iterator.remove();
+      prepared.close();
+    }
+  }
+
+  // Private
+
+  /**
+   * @param batches The update counts of each batch.
+   * @return Every update count, in order.
+   * @since 0.1.0
+   */
+  private static int[] flatten(final List<int[]> batches) {
+    var length = 0;
+    for (final var batch : batches) {
+      length += batch.length;
+    }
+    final var counts = new int[length];
+    var offset = 0;
+    for (final var batch : batches) {
+      System.arraycopy(batch, 0, counts, offset, batch.length);
+      offset += batch.length;
+    }
+    return counts;
+  }
+
+  /**
+   * Closes the least recently used prepared statements beyond the session's capacity.
+   *
+   * @throws SQLException if a prepared statement fails to be closed.
+   * @since 0.1.0
+   */
+  private void evict() throws SQLException {
+    final var iterator = statements.values().iterator();
+    while (statements.size() > capacity) {
+      final var eldest = iterator.next();
+      iterator.remove();
+      eldest.close();
+    }
+  }
+}
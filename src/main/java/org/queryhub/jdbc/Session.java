@@ -0,0 +1,186 @@
+package org.queryhub.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.queryhub.helper.Helper;
+import org.queryhub.steps.Statement;
+
+/**
+ * Executes {@link org.queryhub.steps.Terminal#prepare() parameterized statements} on a connection,
+ * keeping the prepared statements of the most recently used shapes, so repeated statements skip
+ * the round trip of being prepared again:
+ * <p>
+ * <pre>{@code
+ *
+ *   private static final Single ITEMS = () -> "items";
+ *   private static final Single ID = () -> "id";
+ *   private static final Single NAME = () -> "name";
+ *
+ *   try (final var session = Session.of(connection)) {
+ *     for (final var id : ids) {
+ *       final var names = session.query(Query.select(ITEMS, NAME)
+ *         .where(ID, Single.of(id))
+ *         .prepare(Boolean.FALSE), rows -> rows.getString(1));
+ *       // ...
+ *     }
+ *   }
+ *
+ * }</pre>
+ * <p>
+ * Tables and columns are given as fields which write their names as they are, since the names
+ * produced by {@link org.queryhub.field.Single#of(String)} and {@link
+ * org.queryhub.field.Single#identifier(String)} are enclosed by single quotes, which most
+ * databases read as string literals rather than names.
+ * <p>
+ * Statements are keyed by their {@link Statement#sql() parameterized text}, therefore statements
+ * which differ only by their values share the same prepared statement. Once the session holds as
+ * many prepared statements as its capacity, the least recently used one is closed.
+ * <p>
+ * Parameters are bound by {@link PreparedStatement#setObject(int, Object)}, as they are. Sessions
+ * are not thread-safe, as connections usually are not, and closing a session closes its prepared
+ * statements, but not its connection.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public interface Session extends AutoCloseable {
+
+  /**
+   * Produces a session which keeps up to {@code 64} prepared statements.
+   *
+   * @param connection The connection to execute statements on.
+   * @return A session.
+   * @since 0.1.0
+   */
+  static Session of(final Connection connection) {
+    return of(connection, Prepared.CAPACITY);
+  }
+
+  /**
+   * Produces a session.
+   *
+   * @param connection The connection to execute statements on.
+   * @param capacity   How many prepared statements are kept at most.
+   * @return A session.
+   * @throws IllegalArgumentException if the capacity is lower than {@code 1}.
+   * @since 0.1.0
+   */
+  static Session of(final Connection connection, final int capacity) {
+    Helper.throwIf(IllegalArgumentException::new, capacity < 1);
+    return new Prepared(connection, capacity);
+  }
+
+  /**
+   * Supplies the prepared statement of the given statement's shape, with the statement's
+   * parameters bound. The prepared statement belongs to the session, and should not be closed.
+   *
+   * @param statement A parameterized statement.
+   * @return A prepared statement, ready to be executed.
+   * @throws SQLException if the statement fails to be prepared or bound.
+   * @since 0.1.0
+   */
+  PreparedStatement prepare(final Statement statement) throws SQLException;
+
+  /**
+   * Executes a statement which does not produce rows, such as {@code INSERT}, {@code UPDATE} or
+   * {@code DELETE} statements.
+   *
+   * @param statement A parameterized statement.
+   * @return How many rows were affected.
+   * @throws SQLException if the statement fails to be executed.
+   * @since 0.1.0
+   */
+  int update(final Statement statement) throws SQLException;
+
+  /**
+   * Executes a statement which produces rows, such as {@code SELECT} statements.
+   *
+   * @param statement A parameterized statement.
+   * @param mapper    Maps the current row of the results.
+   * @param <T>       The type of the mapped rows.
+   * @return The mapped rows, in order.
+   * @throws SQLException if the statement fails to be executed, or its rows to be mapped.
+   * @since 0.1.0
+   */
+  <T> List<T> query(final Statement statement, final Mapper<T> mapper) throws SQLException;
+
+  /**
+   * Executes many statements in batches of up to {@code 1000} statements each.
+   *
+   * @param statements Parameterized statements, usually {@link Statement#bind(Object...) bound}
+   *                   from the same one.
+   * @return The update count of each statement, in order.
+   * @throws SQLException if any batch fails to be executed.
+   * @see #batch(Iterable, int)
+   * @since 0.1.0
+   */
+  int[] batch(final Iterable<? extends Statement> statements) throws SQLException;
+
+  /**
+   * Executes many statements in batches, so each batch takes a single round trip:
+   * <p>
+   * <pre>{@code
+   *
+   *   final var update = Query.update(ITEMS)
+   *     .set(NAME, Single.of(""))
+   *     .where(ID, Single.of(0L))
+   *     .prepare(Boolean.FALSE);
+   *   final var counts = session.batch(rows.stream()
+   *     .map(row -> update.bind(row.name(), row.id()))
+   *     .collect(Collectors.toList()), 500);
+   *
+   * }</pre>
+   * <p>
+   * Consecutive statements with the same shape are added to the same batch, which is executed once
+   * it holds as many statements as the given size, or when a statement with another shape follows.
+   *
+   * @param statements Parameterized statements, usually {@link Statement#bind(Object...) bound}
+   *                   from the same one.
+   * @param size       How many statements each batch holds at most.
+   * @return The update count of each statement, in order, as reported by {@link
+   * PreparedStatement#executeBatch()}.
+   * @throws SQLException             if any batch fails to be executed.
+   * @throws IllegalArgumentException if the size is lower than {@code 1}.
+   * @since 0.1.0
+   */
+  int[] batch(final Iterable<? extends Statement> statements, final int size) throws SQLException;
+
+  /**
+   * @return How many prepared statements are kept.
+   * @since 0.1.0
+   */
+  int size();
+
+  /**
+   * Closes every prepared statement kept by the session. The connection is left open.
+   *
+   * @throws SQLException if any prepared statement fails to be closed.
+   * @since 0.1.0
+   */
+  @Override
+  void close() throws SQLException;
+
+  /**
+   * Maps a row of results.
+   *
+   * @param <T> The type of the mapped rows.
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  @FunctionalInterface
+  interface Mapper<T> {
+
+    /**
+     * Maps the current row of the results, which should not be moved.
+     *
+     * @param row The results, positioned at the row to be mapped.
+     * @return The mapped row.
+     * @throws SQLException if the row fails to be read.
+     * @since 0.1.0
+     */
+    T map(final ResultSet row) throws SQLException;
+  }
+}
@@ -0,0 +1,99 @@
+package org.queryhub.jdbc;
+
+import java.sql.SQLException;
+import org.queryhub.field.Field;
+import org.queryhub.field.Single;
+
+/**
+ * Buffers the writes of a transaction, so they are sent at once, in a consistent order and in
+ * batches, when the unit of work is flushed:
+ * <p>
+ * <pre>{@code
+ *
+ *   private static final Single ORDERS = () -> "orders";
+ *   private static final Single CUSTOMERS = () -> "customers";
+ *   private static final Single ID = () -> "id";
+ *   private static final Single LAST_ORDER = () -> "last_order";
+ *   private static final Single UPDATED_AT = () -> "updated_at";
+ *
+ *   final var work = UnitOfWork.of(session);
+ *   work.insert(ORDERS, Multiple.of(orderId, customerId));
+ *   work.update(CUSTOMERS, ID, Single.of(customerId), LAST_ORDER, Single.of(orderId));
+ *   work.update(CUSTOMERS, ID, Single.of(customerId), UPDATED_AT, Single.of(now));
+ *   work.flush();
+ *   connection.commit();
+ *
+ * }</pre>
+ * <p>
+ * Updates of the same row, as identified by its table, key and key's value, are merged into a
+ * single statement, in which the last value set to each column prevails. Once flushed, the writes
+ * are sorted by table, inserts before updates, and updates by their key's value, then sent as
+ * {@link Session#batch(Iterable) batches}. Therefore, concurrent transactions lock rows in the
+ * same order, which avoids deadlocks among them, while foreign keys between the tables should be
+ * deferred to the transaction's end.
+ * <p>
+ * Units of work are not thread-safe, and neither commit nor roll back the transaction.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public interface UnitOfWork {
+
+  /**
+   * Produces an empty unit of work.
+   *
+   * @param session The session to send the writes through.
+   * @return A unit of work.
+   * @since 0.1.0
+   */
+  static UnitOfWork of(final Session session) {
+    return new Buffered(session);
+  }
+
+  /**
+   * Buffers a row to be inserted.
+   *
+   * @param table The table to insert the row into.
+   * @param row   The row, with its values.
+   * @return This unit of work.
+   * @since 0.1.0
+   */
+  UnitOfWork insert(final Single table, final Field row);
+
+  /**
+   * Buffers a column to be updated, merging it into the buffered update of the same row, if any.
+   *
+   * @param table  The table to update.
+   * @param key    The key which identifies the row.
+   * @param id     The key's value.
+   * @param column The column to be updated.
+   * @param value  The column's value.
+   * @return This unit of work.
+   * @since 0.1.0
+   */
+  UnitOfWork update(final Single table, final Single key, final Single id, final Single column,
+    final Single value);
+
+  /**
+   * @return How many statements are buffered, counting each merged update once.
+   * @since 0.1.0
+   */
+  int size();
+
+  /**
+   * Sends every buffered write, in order and in batches, then empties the buffer, even if the
+   * writes fail.
+   *
+   * @return The update count of each statement, in the order they were sent.
+   * @throws SQLException if any batch fails to be executed.
+   * @since 0.1.0
+   */
+  int[] flush() throws SQLException;
+
+  /**
+   * Discards every buffered write.
+   *
+   * @since 0.1.0
+   */
+  void clear();
+}
@@ -0,0 +1,126 @@
+package org.queryhub.steps;
+
+import java.util.List;
+import org.queryhub.helper.Helper;
+
+/**
+ * Represents a multi-row {@code INSERT} operation, which is split into as many statements as
+ * needed for none of them to exceed the given {@link Limits limits}.
+ * <p>
+ * Rows are never split: a single row which exceeds the limits on its own is set into a statement
+ * of its own. Unlike {@link Terminal terminal} steps, a batch is not finished when built, so it can
+ * be rendered any number of times.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public interface Batch {
+
+  /**
+   * Renders the batch's statements. Implicitly appends a semicolon to each statement's end.
+   *
+   * @return The statements' string representations, in the same order of the rows.
+   * @since 0.1.0
+   */
+  List<String> build();
+
+  /**
+   * Renders the batch's statements.
+   *
+   * @param withSemiColon Optionally appends trailing semicolon to each statement.
+   * @return The statements' string representations, in the same order of the rows.
+   * @since 0.1.0
+   */
+  List<String> build(final boolean withSemiColon);
+
+  /**
+   * Renders the batch's statements in the parameterized form. Implicitly appends a semicolon to
+   * each statement's end.
+   *
+   * @return The statements, in the same order of the rows.
+   * @see Terminal#prepare()
+   * @since 0.1.0
+   */
+  List<Statement> prepare();
+
+  /**
+   * Renders the batch's statements in the parameterized form.
+   *
+   * @param withSemiColon Optionally appends trailing semicolon to each statement.
+   * @return The statements, in the same order of the rows.
+   * @see Terminal#prepare(boolean)
+   * @since 0.1.0
+   */
+  List<Statement> prepare(final boolean withSemiColon);
+
+  /**
+   * Defines up to how many rows, parameters and bytes each of a {@link Batch batch}'s statements
+   * may hold. Bytes are counted on the statement's UTF-8 encoded string representation, either the
+   * inlined or the parameterized one.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  final class Limits {
+
+    /**
+     * Conservative limits which are accepted by most databases' default settings: up to 1000
+     * rows, 32767 parameters and 4 MiB per statement.
+     */
+    public static final Limits DEFAULT = of(1_000, Short.MAX_VALUE, 4L << 20);
+
+    private final int rows;
+    private final int parameters;
+    private final long bytes;
+
+    /**
+     * Non-visible constructor.
+     *
+     * @since 0.1.0
+     */
+    private Limits(final int rows, final int parameters, final long bytes) {
+      this.rows = rows;
+      this.parameters = parameters;
+      this.bytes = bytes;
+    }
+
+    /**
+     * Produces limits for a batch's statements.
+     *
+     * @param rows       Maximum amount of rows per statement.
+     * @param parameters Maximum amount of parameters per statement.
+     * @param bytes      Maximum UTF-8 encoded length per statement.
+     * @return Immutable limits.
+     * @throws IllegalArgumentException if any of the limits is not positive.
+     * @since 0.1.0
+     */
+    public static Limits of(final int rows, final int parameters, final long bytes) {
+      Helper.throwIf(IllegalArgumentException::new, rows < 1 || parameters < 1 || bytes < 1);
+      return new Limits(rows, parameters, bytes);
+    }
+
+    /**
+     * @return Maximum amount of rows per statement.
+     * @since 0.1.0
+     */
+    public final int rows() {
+      return rows;
+    }
+
+    /**
+     * @return Maximum amount of parameters per statement.
+     * @since 0.1.0
+     */
+    public final int parameters() {
+      return parameters;
+    }
+
+    /**
+     * @return Maximum UTF-8 encoded length per statement.
+     * @since 0.1.0
+     */
+    public final long bytes() {
+      return bytes;
+    }
+  }
+}
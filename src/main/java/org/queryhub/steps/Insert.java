@@ -1,6 +1,7 @@
 package org.queryhub.steps;
 
 import org.queryhub.field.Field;
+import org.queryhub.steps.Batch.Limits;
 import org.queryhub.steps.Terminal.Select;
 
 /**
@@ -39,6 +40,106 @@ public interface Insert {
    */
   Terminal values(final Field fields);
 
+  /**
+   * Appends many rows to the {@code VALUES} operation, each one enclosed within parenthesis.
+   * <p>
+   * The following implementation example:
+   * <p>
+   * <pre>{@code
+   *
+   *   (...)
+   *   .values(Multiple.of(1, 2), Multiple.of(3, 4), Multiple.of(5, 6))
+   *   .build();
+   *
+   * }</pre>
+   * <p>
+   * should produce the output:
+   * <p>
+   * <pre>{@code
+   *
+   *   (...)
+   *   VALUES (1, 2) , (3, 4) , (5, 6);
+   *
+   * }</pre>
+   *
+   * @param row  The first row to be inserted into the table.
+   * @param rows The following rows to be inserted into the table.
+   * @return Current statement building instance, intended to be chained to the next building calls.
+   * @since 0.1.0
+   */
+  Terminal values(final Field row, final Field... rows);
+
+  /**
+   * Appends many rows to the {@code VALUES} operation, split into as many statements as needed for
+   * none of them to exceed the {@link Limits#DEFAULT default limits}. Then, finishes the statement
+   * building.
+   *
+   * @param rows The rows to be inserted into the table.
+   * @return A batch of statements which share the same table.
+   * @throws IllegalArgumentException if there are no rows.
+   * @see #values(Iterable, Limits)
+   * @since 0.1.0
+   */
+  Batch values(final Iterable<? extends Field> rows);
+
+  /**
+   * Appends many rows to the {@code VALUES} operation, split into as many statements as needed for
+   * none of them to exceed the given limits. Then, finishes the statement building.
+   * <p>
+   * The following implementation example:
+   * <p>
+   * <pre>{@code
+   *
+   *   (...)
+   *   .values(List.of(Multiple.of(1, 2), Multiple.of(3, 4), Multiple.of(5, 6)),
+   *     Limits.of(2, 1_000, 1_024))
+   *   .build();
+   *
+   * }</pre>
+   * <p>
+   * should produce the outputs:
+   * <p>
+   * <pre>{@code
+   *
+   *   (...)
+   *   VALUES (1, 2) , (3, 4);
+   *
+   *   (...)
+   *   VALUES (5, 6);
+   *
+   * }</pre>
+   *
+   * @param rows   The rows to be inserted into the table.
+   * @param limits Limits for each of the resulting statements.
+   * @return A batch of statements which share the same table.
+   * @throws IllegalArgumentException if there are no rows.
+   * @since 0.1.0
+   */
+  Batch values(final Iterable<? extends Field> rows, final Limits limits);
+
+  /**
+   * Finishes the statement building, producing a sink which writes rows as {@code INSERT}
+   * statements into a writer or a channel, none of them exceeding the {@link Limits#DEFAULT
+   * default limits}.
+   *
+   * @return A sink for rows of the same table.
+   * @see #sink(Limits)
+   * @since 0.1.0
+   */
+  Sink sink();
+
+  /**
+   * Finishes the statement building, producing a sink which writes rows as {@code INSERT}
+   * statements into a writer or a channel, none of them exceeding the given limits. Unlike {@link
+   * #values(Iterable, Limits)}, rows are never held in memory all at once.
+   *
+   * @param limits Limits for each of the written statements.
+   * @return A sink for rows of the same table.
+   * @see Sink
+   * @since 0.1.0
+   */
+  Sink sink(final Limits limits);
+
   /**
    * Appends a {@code VALUES} operation's string segment to the statement building.
    * <p>
@@ -0,0 +1,100 @@
+package org.queryhub.steps;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.queryhub.field.Field;
+import org.queryhub.steps.Batch.Limits;
+
+/**
+ * Represents a streaming multi-row {@code INSERT} operation. Rows are consumed one at a time and
+ * written as {@link Batch batched} statements, each one ended by a semicolon and a line break, so
+ * memory usage is bounded by the largest row rather than by the amount of rows.
+ * <p>
+ * The following implementation example:
+ * <p>
+ * <pre>{@code
+ *
+ *   Query.insert(Single.of("table_1"))
+ *     .sink(Limits.of(2, 1_000, 1_024))
+ *     .writeTo(writer, Stream.of(Multiple.of(1, 2), Multiple.of(3, 4), Multiple.of(5, 6)));
+ *
+ * }</pre>
+ * <p>
+ * should write the output:
+ * <p>
+ * <pre>{@code
+ *
+ *   INSERT INTO 'table_1' VALUES (1, 2) , (3, 4);
+ *   INSERT INTO 'table_1' VALUES (5, 6);
+ *
+ * }</pre>
+ * <p>
+ * A sink keeps no state between writes, so it can be used any number of times, even concurrently.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+public interface Sink {
+
+  /**
+   * Writes the given rows as {@code INSERT} statements. Characters are buffered into a fixed-size
+   * buffer, which is flushed into the writer whenever full and before returning. The writer is
+   * not closed.
+   *
+   * @param writer The writer to write into.
+   * @param rows   The rows to be inserted, consumed as they are written.
+   * @return How many statements were written. Zero, when there are no rows.
+   * @throws IOException if the writer fails to be written.
+   * @see Limits
+   * @since 0.1.0
+   */
+  long writeTo(final Writer writer, final Iterator<? extends Field> rows) throws IOException;
+
+  /**
+   * Writes the given rows as UTF-8 encoded {@code INSERT} statements. Bytes are buffered into a
+   * fixed-size buffer, which is flushed into the channel whenever full and before returning. The
+   * channel is not closed.
+   *
+   * @param channel The channel to write into.
+   * @param rows    The rows to be inserted, consumed as they are written.
+   * @return How many statements were written. Zero, when there are no rows.
+   * @throws IOException if the channel fails to be written.
+   * @see Limits
+   * @since 0.1.0
+   */
+  long writeTo(final WritableByteChannel channel, final Iterator<? extends Field> rows)
+    throws IOException;
+
+  /**
+   * Writes the given rows as {@code INSERT} statements. The stream is not closed.
+   *
+   * @param writer The writer to write into.
+   * @param rows   The rows to be inserted, consumed as they are written.
+   * @return How many statements were written. Zero, when there are no rows.
+   * @throws IOException if the writer fails to be written.
+   * @see #writeTo(Writer, Iterator)
+   * @since 0.1.0
+   */
+  default long writeTo(final Writer writer, final Stream<? extends Field> rows)
+    throws IOException {
+    return writeTo(writer, rows.iterator());
+  }
+
+  /**
+   * Writes the given rows as UTF-8 encoded {@code INSERT} statements. The stream is not closed.
+   *
+   * @param channel The channel to write into.
+   * @param rows    The rows to be inserted, consumed as they are written.
+   * @return How many statements were written. Zero, when there are no rows.
+   * @throws IOException if the channel fails to be written.
+   * @see #writeTo(WritableByteChannel, Iterator)
+   * @since 0.1.0
+   */
+  default long writeTo(final WritableByteChannel channel, final Stream<? extends Field> rows)
+    throws IOException {
+    return writeTo(channel, rows.iterator());
+  }
+}
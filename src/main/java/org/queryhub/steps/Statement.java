@@ -0,0 +1,79 @@
+package org.queryhub.steps;
+
+import java.util.List;
+import org.queryhub.field.Field;
+
+/**
+ * Represents a finished SQL statement in its parameterized form: every value is replaced by a
+ * {@link Field.Constants#VARIABLE placeholder}, while the values themselves are handed out
+ * separately and in order.
+ * <p>
+ * Since the values are not part of the statement's string representation, statements with the same
+ * shape produce the same string, regardless of the values they carry.
+ * <p>
+ * Instances are immutable and thread-safe: they can be rendered any number of times and shared
+ * among threads. In order to run the same statement with other values, it can be {@link
+ * #bind(Object...) re-bound} without going through the building steps again.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @see Terminal#prepare()
+ * @since 0.1.0
+ */
+public interface Statement {
+
+  /**
+   * Supplies the statement's string representation, with placeholders in place of its values.
+   *
+   * @return The parameterized SQL string.
+   * @since 0.1.0
+   */
+  String sql();
+
+  /**
+   * Supplies the statement's values, in the same order of the placeholders.
+   *
+   * @return An unmodifiable list of values to be bound to the placeholders.
+   * @since 0.1.0
+   */
+  List<Object> parameters();
+
+  /**
+   * Renders the statement with its values inlined as literals, the same way as {@link
+   * Terminal#build()} does.
+   *
+   * @return The SQL string with values in place of the placeholders.
+   * @since 0.1.0
+   */
+  String inline();
+
+  /**
+   * Produces a statement with the same shape, bound to other values.
+   * <p>
+   * The following implementation example:
+   * <p>
+   * <pre>{@code
+   *
+   *   final var statement = Query.select(Single.of("table_1"), Single.of("field_1"))
+   *     .where(Single.of("field_1"), Relation.GT, Single.of(1))
+   *     .prepare();
+   *
+   *   statement.bind(2).inline();
+   *
+   * }</pre>
+   * <p>
+   * should produce the output:
+   * <p>
+   * <pre>{@code
+   *
+   *   SELECT 'field_1' FROM 'table_1' WHERE 'field_1' > 2;
+   *
+   * }</pre>
+   *
+   * @param values New values, in the same order of the placeholders.
+   * @return Another statement, which {@link #sql() string representation} is the same as this one.
+   * @throws IllegalArgumentException if the amount of values differs from the amount of {@link
+   *                                  #parameters() parameters}.
+   * @since 0.1.0
+   */
+  Statement bind(final Object... values);
+}
@@ -1,5 +1,10 @@
 package org.queryhub.steps;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.queryhub.Cache;
+import org.queryhub.Rope;
+
 /**
  * Represents the SQL building steps which end the statement building.
  *
@@ -35,4 +40,189 @@ public interface Terminal {
    * @since 0.1.0
    */
   String build(final boolean withSemiColon);
+
+  /**
+   * Finishes the SQL statement building operation, looking the statement up in the given cache
+   * first. Implicitly appends a semicolon to the statement's end.
+   *
+   * @param cache Keeps the rendered statements, keyed by their structure.
+   * @return The same as {@link #build()}, which is the cached instance when the same statement was
+   * already built.
+   * @since 0.1.0
+   */
+  String build(final Cache cache);
+
+  /**
+   * Finishes the SQL statement building operation, looking the statement up in the given cache
+   * first.
+   *
+   * @param cache         Keeps the rendered statements, keyed by their structure.
+   * @param withSemiColon Optionally appends trailing semicolon to statement under construction.
+   * @return The same as {@link #build(boolean)}, which is the cached instance when the same
+   * statement was already built.
+   * @since 0.1.0
+   */
+  String build(final Cache cache, final boolean withSemiColon);
+
+  /**
+   * Finishes the SQL statement building operation, writing it straight into the given builder.
+   * Implicitly appends a semicolon to the statement's end.
+   * <p>
+   * Unlike {@link #build()}, no intermediate string is produced, so a single builder can be reused
+   * for rendering several statements:
+   * <p>
+   * <pre>{@code
+   *
+   *   final var builder = new StringBuilder(256);
+   *   for (final var id : ids) {
+   *     builder.setLength(0);
+   *     Query.delete(Single.of("table_1"))
+   *       .where(Single.of("field_1"), Relation.DIFFERENT, Single.of(id))
+   *       .renderTo(builder);
+   *     // ...
+   *   }
+   *
+   * }</pre>
+   *
+   * @param builder The builder to write into.
+   * @return The given builder.
+   * @see #build()
+   * @since 0.1.0
+   */
+  StringBuilder renderTo(final StringBuilder builder);
+
+  /**
+   * Finishes the SQL statement building operation, writing it straight into the given builder.
+   *
+   * @param builder       The builder to write into.
+   * @param withSemiColon Optionally appends trailing semicolon to statement under construction.
+   * @return The given builder.
+   * @see #build(boolean)
+   * @since 0.1.0
+   */
+  StringBuilder renderTo(final StringBuilder builder, final boolean withSemiColon);
+
+  /**
+   * Finishes the SQL statement building operation, encoding it as UTF-8 straight into the given
+   * buffer, which may be a direct one. Implicitly appends a semicolon to the statement's end.
+   * <p>
+   * Keywords and {@link org.queryhub.field.Identifier identifiers} are copied as they were encoded
+   * beforehand, while numbers are written as digits, so the statement never exists as a {@link
+   * String}.
+   *
+   * @param buffer The buffer to write into, from its current position.
+   * @return The given buffer, positioned after the statement.
+   * @throws java.nio.BufferOverflowException if the buffer has no room for the whole statement, in
+   *                                          which case the buffer's position is left as it was,
+   *                                          and the statement is not finished.
+   * @since 0.1.0
+   */
+  ByteBuffer renderTo(final ByteBuffer buffer);
+
+  /**
+   * Finishes the SQL statement building operation, encoding it as UTF-8 straight into the given
+   * buffer, which may be a direct one.
+   *
+   * @param buffer        The buffer to write into, from its current position.
+   * @param withSemiColon Optionally appends trailing semicolon to statement under construction.
+   * @return The given buffer, positioned after the statement.
+   * @throws java.nio.BufferOverflowException if the buffer has no room for the whole statement, in
+   *                                          which case the buffer's position is left as it was,
+   *                                          and the statement is not finished.
+   * @see #renderTo(ByteBuffer)
+   * @since 0.1.0
+   */
+  ByteBuffer renderTo(final ByteBuffer buffer, final boolean withSemiColon);
+
+  /**
+   * Finishes the SQL statement building operation, writing it straight into the given rope.
+   * Implicitly appends a semicolon to the statement's end.
+   * <p>
+   * Unlike {@link #renderTo(StringBuilder)}, the statement is held in fixed-size segments, so very
+   * large statements never need a single contiguous array.
+   *
+   * @param rope The rope to write into.
+   * @return The given rope.
+   * @see Rope
+   * @since 0.1.0
+   */
+  Rope renderTo(final Rope rope);
+
+  /**
+   * Finishes the SQL statement building operation, writing it straight into the given rope.
+   *
+   * @param rope          The rope to write into.
+   * @param withSemiColon Optionally appends trailing semicolon to statement under construction.
+   * @return The given rope.
+   * @see #renderTo(Rope)
+   * @since 0.1.0
+   */
+  Rope renderTo(final Rope rope, final boolean withSemiColon);
+
+  /**
+   * Finishes the SQL statement building operation, writing it straight into the given output, such
+   * as a {@link java.io.Writer}. Implicitly appends a semicolon to the statement's end.
+   *
+   * @param output The output to write into.
+   * @param <A>    The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @see #renderTo(StringBuilder)
+   * @since 0.1.0
+   */
+  <A extends Appendable> A appendTo(final A output) throws IOException;
+
+  /**
+   * Finishes the SQL statement building operation, writing it straight into the given output.
+   *
+   * @param output        The output to write into.
+   * @param withSemiColon Optionally appends trailing semicolon to statement under construction.
+   * @param <A>           The output's type.
+   * @return The given output.
+   * @throws IOException if the output fails to be written.
+   * @see #renderTo(StringBuilder, boolean)
+   * @since 0.1.0
+   */
+  <A extends Appendable> A appendTo(final A output, final boolean withSemiColon)
+    throws IOException;
+
+  /**
+   * Finishes the SQL statement building operation in the parameterized form. Implicitly appends a
+   * semicolon to the statement's end.
+   * <p>
+   * The following implementation example:
+   * <p>
+   * <pre>{@code
+   *
+   *   Query.select(Single.of("table_1"), Single.of("field_1"))
+   *     .where(Single.of("field_1"), Multiple.of(1, 2, 3))
+   *     .prepare();
+   *
+   * }</pre>
+   * <p>
+   * should produce a statement which string representation is:
+   * <p>
+   * <pre>{@code
+   *
+   *   SELECT 'field_1' FROM 'table_1' WHERE 'field_1' IN (?, ?, ?);
+   *
+   * }</pre>
+   * <p>
+   * and which parameters are {@code [1, 2, 3]}.
+   *
+   * @return Complete and finished SQL statement so far, with an appended semicolon.
+   * @see Statement
+   * @since 0.1.0
+   */
+  Statement prepare();
+
+  /**
+   * Finishes the SQL statement building operation in the parameterized form.
+   *
+   * @param withSemiColon Optionally appends trailing semicolon to statement under construction.
+   * @return Complete and finished SQL statement so far.
+   * @see Statement
+   * @since 0.1.0
+   */
+  Statement prepare(final boolean withSemiColon);
 }
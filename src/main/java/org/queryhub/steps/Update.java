@@ -47,7 +47,7 @@ public interface Update {
    * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
    * @since 0.1.0
    */
-  interface After {
+  interface After extends Where {
 
     /**
      * Concatenates another string segment to {@code SET} operation in a {@code UPDATE} statement
@@ -79,7 +79,7 @@ public interface Update {
      * calls.
      * @since 0.1.0
      */
-    Mixin and(final Single field, final Single value);
+    Update.Mixin and(final Single field, final Single value);
   }
 
   /**
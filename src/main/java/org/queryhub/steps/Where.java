@@ -1,5 +1,8 @@
 package org.queryhub.steps;
 
+import java.util.Arrays;
+import java.util.Objects;
+import org.queryhub.helper.Helper;
 import org.queryhub.helper.KeyWord;
 import org.queryhub.field.Field;
 import org.queryhub.field.Single;
@@ -42,6 +45,38 @@ public interface Where extends Terminal {
    */
   Mixin where(final Single field, final Field fields);
 
+  /**
+   * Appends the first {@code WHERE} operation's string segment to the statement building, which
+   * list of values is rendered according to the given {@link InList strategy}.
+   * <p>
+   * The following implementation example:
+   * <p>
+   * <pre>{@code
+   *
+   *   (...)
+   *   .where(Field.of("field_1"), Multiple.of(1, 2, 3), InList.of(2, InList.Strategy.SPLIT))
+   *   (...)
+   *
+   * }</pre>
+   * <p>
+   * should produce the output:
+   * <p>
+   * <pre>{@code
+   *
+   *   (...)
+   *   WHERE ('field_1' IN (1, 2) OR 'field_1' IN (3))
+   *   (...)
+   *
+   * }</pre>
+   *
+   * @param field  The leading field to be set.
+   * @param fields Trailing fields to be set.
+   * @param inList How the trailing fields are rendered.
+   * @return Current statement building instance, intended to be chained to the next building calls.
+   * @since 0.1.0
+   */
+  Mixin where(final Single field, final Field fields, final InList inList);
+
   /**
    * Appends the first {@code WHERE} operation's string segment to the statement building.
    * <p>
@@ -148,6 +183,20 @@ public interface Where extends Terminal {
      */
     Mixin and(final Single field, final Field fields);
 
+    /**
+     * Appends another {@code WHERE} operation's string segment to the statement building, which
+     * list of values is rendered according to the given {@link InList strategy}.
+     *
+     * @param field  The leading field in statement's segment.
+     * @param fields Trailing fields in statement's segment.
+     * @param inList How the trailing fields are rendered.
+     * @return Current statement building instance, intended to be chained to the next building
+     * calls.
+     * @see Where#where(Single, Field, InList)
+     * @since 0.1.0
+     */
+    Mixin and(final Single field, final Field fields, final InList inList);
+
     /**
      * Appends another {@code WHERE} operation's string segment to the statement building.
      * <p>
@@ -181,6 +230,20 @@ public interface Where extends Terminal {
      */
     Mixin or(final Single field, final Field fields);
 
+    /**
+     * Appends another {@code WHERE} operation's string segment to the statement building, which
+     * list of values is rendered according to the given {@link InList strategy}.
+     *
+     * @param field  The leading field in statement's segment.
+     * @param fields Trailing fields in statement's segment.
+     * @param inList How the trailing fields are rendered.
+     * @return Current statement building instance, intended to be chained to the next building
+     * calls.
+     * @see Where#where(Single, Field, InList)
+     * @since 0.1.0
+     */
+    Mixin or(final Single field, final Field fields, final InList inList);
+
     /**
      * Appends another {@code WHERE} operation's string segment to the statement building.
      * <p>
@@ -298,6 +361,182 @@ public interface Where extends Terminal {
 
   }
 
+  /**
+   * Defines how the list of values of an {@code IN} operation is rendered, according to its size.
+   * Lists up to the threshold are always rendered {@link Strategy#INLINE inline}, while longer ones
+   * are rendered according to the chosen strategy.
+   * <p>
+   * Optionally, lists are {@link #padded() padded} by repeating their last value, which does not
+   * change the operation's result but bounds how many distinct parameterized statements a list of
+   * varying size produces.
+   *
+   * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+   * @since 0.1.0
+   */
+  final class InList {
+
+    /**
+     * Renders every list inline, as a single {@code IN} operation.
+     */
+    public static final InList DEFAULT = of(Integer.MAX_VALUE, Strategy.INLINE);
+
+    private static final int[] POWERS_OF_TWO = new int[0];
+
+    private final int threshold;
+    private final Strategy strategy;
+    private final int[] buckets;
+
+    /**
+     * Non-visible constructor.
+     *
+     * @param buckets Ascending sizes to pad lists up to. Powers of two, when empty, and no padding
+     *                at all, when {@code null}.
+     * @since 0.1.0
+     */
+    private InList(final int threshold, final Strategy strategy, final int[] buckets) {
+      this.threshold = threshold;
+      this.strategy = strategy;
+      this.buckets = buckets;
+    }
+
+    /**
+     * Produces a strategy for lists longer than the given threshold.
+     *
+     * @param threshold Up to how many values a list is rendered inline. Also, how many values
+     *                  each {@link Strategy#SPLIT split} operation holds.
+     * @param strategy  How longer lists are rendered.
+     * @return Immutable strategy.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     * @since 0.1.0
+     */
+    public static InList of(final int threshold, final Strategy strategy) {
+      Helper.throwIf(IllegalArgumentException::new, threshold < 1);
+      return new InList(threshold, Objects.requireNonNull(strategy), null);
+    }
+
+    /**
+     * Produces the same strategy, which pads lists up to the next power of two.
+     * <p>
+     * The following implementation example:
+     * <p>
+     * <pre>{@code
+     *
+     *   (...)
+     *   .where(Field.of("field_1"), Multiple.of(1, 2, 3), InList.DEFAULT.padded())
+     *   .prepare();
+     *
+     * }</pre>
+     * <p>
+     * should produce the output:
+     * <p>
+     * <pre>{@code
+     *
+     *   (...)
+     *   WHERE 'field_1' IN (?, ?, ?, ?)
+     *
+     * }</pre>
+     * <p>
+     * which parameters are {@code [1, 2, 3, 3]}.
+     *
+     * @return Immutable strategy.
+     * @since 0.1.0
+     */
+    public final InList padded() {
+      return new InList(threshold, strategy, POWERS_OF_TWO);
+    }
+
+    /**
+     * Produces the same strategy, which pads lists up to the smallest bucket which holds them.
+     * Lists longer than the largest bucket are padded up to a multiple of it.
+     *
+     * @param bucket  A size to pad lists up to.
+     * @param buckets Other sizes to pad lists up to.
+     * @return Immutable strategy.
+     * @throws IllegalArgumentException if any of the buckets is not positive.
+     * @since 0.1.0
+     */
+    public final InList padded(final int bucket, final int... buckets) {
+      final var sizes = Arrays.copyOf(buckets, buckets.length + 1);
+      sizes[buckets.length] = bucket;
+      Arrays.sort(sizes);
+      Helper.throwIf(IllegalArgumentException::new, sizes[0] < 1);
+      return new InList(threshold, strategy, sizes);
+    }
+
+    /**
+     * @return Up to how many values a list is rendered inline.
+     * @since 0.1.0
+     */
+    public final int threshold() {
+      return threshold;
+    }
+
+    /**
+     * Chooses the strategy for a list.
+     *
+     * @param size The list's size.
+     * @return How the list should be rendered.
+     * @since 0.1.0
+     */
+    public final Strategy strategy(final int size) {
+      return size > threshold ? strategy : Strategy.INLINE;
+    }
+
+    /**
+     * Chooses the padded size for a list. Lists bound as a single {@link Strategy#ARRAY array} are
+     * never padded.
+     *
+     * @param size The list's size.
+     * @return How many values the list should hold after padding, never less than its size.
+     * @since 0.1.0
+     */
+    public final int pad(final int size) {
+      if (buckets == null || size < 1 || strategy(size) == Strategy.ARRAY) {
+        return size;
+      }
+      if (buckets.length == 0) {
+        final var power = Integer.highestOneBit(size);
+        return power == size || power == Integer.highestOneBit(Integer.MAX_VALUE)
+          ? size : power << 1;
+      }
+      for (final var bucket : buckets) {
+        if (size <= bucket) {
+          return bucket;
+        }
+      }
+      final var largest = buckets[buckets.length - 1];
+      return (int) Math.min(Integer.MAX_VALUE, ((size - 1L) / largest + 1) * largest);
+    }
+
+    /**
+     * Ways of rendering the list of values of an {@code IN} operation.
+     *
+     * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+     * @since 0.1.0
+     */
+    public enum Strategy {
+      /**
+       * A single operation: {@code 'field_1' IN (1, 2, 3)}.
+       */
+      INLINE,
+      /**
+       * As many operations as needed for none of them to exceed the threshold, joined by {@code
+       * OR}: {@code ('field_1' IN (1, 2) OR 'field_1' IN (3))}.
+       */
+      SPLIT,
+      /**
+       * A single operation against a {@code VALUES} list, which most databases handle as a join:
+       * {@code 'field_1' IN (VALUES (1), (2), (3))}.
+       */
+      VALUES,
+      /**
+       * A single operation against an array, which is bound as one parameter when the statement is
+       * prepared: {@code 'field_1' = ANY (ARRAY[1, 2, 3])}.
+       */
+      ARRAY
+    }
+  }
+
   /**
    * Represents the keywords which can be used between two {@link Field fields} in the {@code WHERE}
    * clauses.
@@ -5,6 +5,7 @@
 module queryhub.test {
 
   requires queryhub.core;
+  requires java.sql;
 
   requires org.junit.jupiter.api;
 
@@ -20,6 +20,11 @@ abstract class BaseTest {
   static final String SORT_TAG = "sort_tag";
   static final String LIMIT_TAG = "limit_tag";
   static final String TERMINAL_TAG = "terminal_tag";
+  static final String STATEMENT_TAG = "statement_tag";
+  static final String TEMPLATE_TAG = "template_tag";
+  static final String FORK_TAG = "fork_tag";
+  static final String BUILDER_TAG = "builder_tag";
+  static final String SESSION_TAG = "session_tag";
 
   static final String TABLE_1 = "table_1";
   static final String TABLE_2 = "table_2";
@@ -0,0 +1,119 @@
+package org.queryhub.test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.queryhub.Builder;
+import org.queryhub.Cache;
+import org.queryhub.Query;
+import org.queryhub.field.Multiple;
+import org.queryhub.field.Single;
+import org.queryhub.steps.Where.Relation;
+
+/**
+ * Defines {@link Builder}-related test cases.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+@Tag(BaseTest.BUILDER_TAG)
+@DisplayName("Builder test cases.")
+final class BuilderTest extends BaseTest {
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should start each statement over the same instance.")
+  final void shouldStart_eachStatement_overSameInstance() {
+    // Arrange
+    final var subject = Builder.of();
+    // Act
+    final var insert = subject.insert(Single.of(TABLE_1));
+    final var first = insert.values(Multiple.of(1L, 2L)).build();
+    final var update = subject.update(Single.of(TABLE_1));
+    final var second = update.set(Single.of(FIELD_1), Single.of(VALUE_1))
+      .and(Single.of(FIELD_2), Single.of(2))
+      .build();
+    final var third = subject.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Relation.GTE, Single.of(1))
+      .build();
+    final var fourth = subject.delete(Single.of(TABLE_2)).build(Boolean.FALSE);
+    // Assert
+    Assertions.assertSame(insert, update);
+
+    Assertions.assertEquals("INSERT INTO 'table_1' VALUES (1, 2);", first);
+
+    Assertions.assertEquals("UPDATE 'table_1' SET 'field_1' = 'value_1' , 'field_2' = 2;", second);
+
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' >= 1;", third);
+
+    Assertions.assertEquals("DELETE FROM 'table_2'", fourth);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should produce statements equal to the ones from the entry point.")
+  final void shouldProduce_statements_equalToEntryPointOnes() {
+    // Arrange
+    final var subject = Builder.of();
+    subject.select(Single.of(TABLE_2), Single.of(FIELD_2)).build();
+    // Act
+    final var result = subject.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1), Single.of(1));
+    // Assert
+    Assertions.assertEquals(Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1),
+      Single.of(1)), result);
+
+    subject.reset();
+
+    Assertions.assertNotEquals(Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1),
+      Single.of(1)), result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should supply one builder for each thread.")
+  final void shouldSupply_oneBuilder_forEachThread()
+    throws ExecutionException, InterruptedException {
+    // Act
+    final var current = Builder.local();
+    final var other = CompletableFuture.supplyAsync(Builder::local).get();
+    // Assert
+    Assertions.assertSame(current, Builder.local());
+
+    Assertions.assertNotSame(current, other);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should keep cached statements when the builder is reused.")
+  final void shouldKeep_cachedStatements_whenBuilderIsReused() {
+    // Arrange
+    final var cache = Cache.of(8);
+    final var subject = Builder.of();
+    // Act
+    final var first = subject.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Single.of(1L))
+      .build(cache);
+    final var second = subject.select(Single.of(TABLE_2), Single.of(FIELD_2)).build(cache);
+    final var third = subject.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Single.of(1L))
+      .build(cache);
+    final var fourth = Query.select(Single.of(TABLE_2), Single.of(FIELD_2)).build(cache);
+    // Assert
+    Assertions.assertSame(first, third);
+
+    Assertions.assertSame(second, fourth);
+
+    Assertions.assertEquals(2, cache.size());
+  }
+}
@@ -1,11 +1,17 @@
 package org.queryhub.test;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.queryhub.Query;
+import org.queryhub.field.Field;
+import org.queryhub.field.Multiple;
 import org.queryhub.field.Single;
 import org.queryhub.steps.Terminal.Select;
 
@@ -109,4 +115,100 @@ final class EqualityTest extends BaseTest {
     // Assert
     Assertions.assertEquals(2, set.size());
   }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should evaluate statements with the same parts as equal.")
+  final void shouldEvaluate_statements_withSameParts_asEqual() {
+    // Arrange
+    final var one = Query.update(Single.of(TABLE_1)).set(Single.of(FIELD_1), Single.of(VALUE_1))
+      .and(Single.of(FIELD_2), Single.of(1));
+    final var same = Query.update(Single.of(TABLE_1)).set(Single.of(FIELD_1), Single.of(VALUE_1))
+      .and(Single.of(FIELD_2), Single.of(1));
+    final var different = Query.update(Single.of(TABLE_1))
+      .set(Single.of(FIELD_1), Single.of(VALUE_1))
+      .and(Single.of(FIELD_2), Single.of(2));
+    // Assert
+    Assertions.assertEquals(one, same);
+
+    Assertions.assertEquals(one.hashCode(), same.hashCode());
+
+    Assertions.assertNotEquals(one, different);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should update the hash code as the statement is built.")
+  final void shouldUpdate_hashCode_asStatementIsBuilt() {
+    // Arrange
+    final var one = Query.select(Single.of(TABLE_1), Multiple.of(FIELD_1, FIELD_2));
+    final var same = Query.select(Single.of(TABLE_1), Multiple.of(FIELD_1, FIELD_2));
+    final var before = one.hashCode();
+    // Act
+    one.where(Single.of(FIELD_1), Multiple.of(1L, 2L));
+    // Assert
+    Assertions.assertNotEquals(before, one.hashCode());
+
+    Assertions.assertNotEquals(one, same);
+
+    same.where(Single.of(FIELD_1), Multiple.of(1L, 2L));
+
+    Assertions.assertEquals(one, same);
+
+    Assertions.assertEquals(one.hashCode(), same.hashCode());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should be usable as map keys.")
+  final void shouldBe_usable_asMapKeys() {
+    // Arrange
+    final var map = new HashMap<Object, String>();
+    map.put(Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1), Single.of(1)), VALUE_1);
+    // Act
+    final var result = map
+      .get(Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1), Single.of(1)));
+    // Assert
+    Assertions.assertEquals(VALUE_1, result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should compare fields which are not pure by their collected values only.")
+  final void shouldCompare_nonPureFields_byCollectedValues_only() {
+    // Arrange
+    final var evaluations = new AtomicInteger();
+    final Supplier<Field> field = () -> new Field() {
+      @Override
+      public String get() {
+        return "1, 2";
+      }
+
+      @Override
+      public List<Object> parameters() {
+        evaluations.incrementAndGet();
+        return List.of(1L, 2L);
+      }
+    };
+    final var one = Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1), field.get());
+    final var same = Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1), field.get());
+    final var created = evaluations.get();
+    // Act
+    final var equal = one.equals(same);
+    final var hashes = one.hashCode() == same.hashCode();
+    // Assert
+    Assertions.assertTrue(equal);
+
+    Assertions.assertTrue(hashes);
+
+    Assertions.assertEquals(created, evaluations.get());
+  }
 }
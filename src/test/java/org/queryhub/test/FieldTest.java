@@ -1,16 +1,24 @@
 package org.queryhub.test;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.queryhub.Query;
 import org.queryhub.field.Field;
 import org.queryhub.field.Field.Constants;
+import org.queryhub.field.LongList;
 import org.queryhub.field.Multiple;
 import org.queryhub.field.Single;
+import org.queryhub.steps.Where.Relation;
 
 /**
  * Defines {@link Field}'s test cases.
@@ -61,6 +69,74 @@ final class FieldTest extends BaseTest {
     Assertions.assertEquals("'1', '2'", Multiple.of("\"1\"", "\"2\"").get());
   }
 
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should escape single quotes, keeping backslashes.")
+  final void shouldEscape_singleQuotes_keepingBackslashes() {
+    // Act / Assert
+    Assertions.assertEquals("'it''s'", Single.of("it's").get());
+
+    Assertions.assertEquals("'a\\b', ''''''", Multiple.of("a\\b", "''").get());
+
+    Assertions.assertEquals("'x'' OR ''1''=''1'", Single.of("x\"' OR '1'='1").get());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should render pure fields only once.")
+  final void shouldRender_pureFields_onlyOnce() {
+    // Arrange
+    final var SUBJECT = Single.of("field_1");
+    // Act
+    final var first = SUBJECT.get();
+    // Assert
+    Assertions.assertSame(first, SUBJECT.get());
+
+    Assertions.assertEquals("'field_1'", SUBJECT.renderTo(new StringBuilder()).toString());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should share identifiers by name.")
+  final void shouldShare_identifiers_byName() {
+    // Act
+    final var SUBJECT = Single.identifier("\"field_1\"");
+    // Assert
+    Assertions.assertSame(SUBJECT, Single.identifier("\"field_1\""));
+
+    Assertions.assertEquals(Single.of("field_1").get(), SUBJECT.get());
+
+    Assertions.assertEquals("field_1", SUBJECT.name());
+
+    Assertions.assertEquals(StandardCharsets.UTF_8.encode("'field_1'"), SUBJECT.bytes());
+
+    Assertions.assertTrue(SUBJECT.parameters().isEmpty());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should inline identifiers into prepared statements.")
+  final void shouldInline_identifiers_intoPreparedStatements() {
+    // Act
+    final var SUBJECT = Query.select(Single.identifier("table_1"), Single.identifier("field_1"))
+      .where(Single.identifier("field_1"), Relation.GTE, Single.identifier("field_2"))
+      .and(Single.identifier("field_2"), Single.of(1))
+      .prepare();
+    // Assert
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' >= 'field_2' "
+      + "AND 'field_2' IN (?);", SUBJECT.sql());
+
+    Assertions.assertEquals(List.of(1L), SUBJECT.parameters());
+  }
+
   /**
    * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
    * @since 0.1.0
@@ -108,6 +184,46 @@ final class FieldTest extends BaseTest {
       // Assert
       Assertions.assertEquals("1, 2, 3", SUBJECT.get());
     }
+
+    /**
+     * @since 0.1.0
+     */
+    @Test
+    @DisplayName("Should concat primitive values with comma.")
+    final void shouldConcat_primitiveValues_with_comma() {
+      // Act / Assert
+      Assertions.assertEquals("1, 2, 3", Multiple.of(new long[]{1L, 2L, 3L}).get());
+
+      Assertions.assertEquals("1, 2, 3", Multiple.of(new int[]{1, 2, 3}).get());
+
+      Assertions.assertEquals("1.5, 2.0", Multiple.of(new double[]{1.5D, 2D}).get());
+
+      Assertions.assertEquals("1, 2, 3", Multiple.of(LongStream.rangeClosed(1, 3)).get());
+
+      Assertions.assertEquals(List.of(1L, 2L), Multiple.of(new long[]{1L, 2L}).parameters());
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Test
+    @DisplayName("Should read a reusable list's current values.")
+    final void shouldRead_reusableList_currentValues() {
+      // Arrange
+      final var LIST = new LongList(1).addAll(1L, 2L).add(3L);
+      final var SUBJECT = Multiple.of(LIST);
+      // Act
+      final var FIRST = SUBJECT.get();
+      LIST.clear().addAll(LongStream.of(4L, 5L));
+      // Assert
+      Assertions.assertEquals("1, 2, 3", FIRST);
+
+      Assertions.assertEquals("4, 5", SUBJECT.get());
+
+      Assertions.assertEquals(List.of(4L, 5L), SUBJECT.parameters());
+
+      Assertions.assertThrows(IndexOutOfBoundsException.class, () -> LIST.get(2));
+    }
   }
 
   /**
@@ -208,9 +324,44 @@ final class FieldTest extends BaseTest {
 
       final var SUBJECT_2 = Multiple.of(LDT, LDT);
       // Assert
-      Assertions.assertEquals("'2019-12-11 12:00:00'", SUBJECT.get());
+      Assertions.assertEquals("'2019-12-11 00:00:00'", SUBJECT.get());
 
-      Assertions.assertEquals("'2019-12-11 12:00:00', '2019-12-11 12:00:00'", SUBJECT_2.get());
+      Assertions.assertEquals("'2019-12-11 00:00:00', '2019-12-11 00:00:00'", SUBJECT_2.get());
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Test
+    @DisplayName("Should format LocalDateTime with calendar year, 24-hour clock and fraction.")
+    final void shouldFormat_localDateTime_withFractionalSeconds() {
+      // Arrange
+      final var LDT = LocalDateTime.of(2019, 12, 30, 23, 5, 9);
+      // Act
+      final var SUBJECT = Multiple.of(LDT, LDT.withNano(120_000_000), LDT.withNano(123_456_000),
+        LDT.withNano(1));
+      // Assert
+      Assertions.assertEquals("'2019-12-30 23:05:09', '2019-12-30 23:05:09.120', "
+        + "'2019-12-30 23:05:09.123456', '2019-12-30 23:05:09.000000001'", SUBJECT.get());
+    }
+
+    /**
+     * @since 0.1.0
+     */
+    @Test
+    @DisplayName("Should format offset date/times bound to a statement.")
+    final void shouldFormat_offsetDateTime_withOffset() {
+      // Arrange
+      final var LDT = LocalDateTime.of(800, 1, 2, 3, 4, 5);
+      final var SUBJECT = Query.select(Single.of("table_1"), Constants.ALL)
+        .where(Single.of("field_1"), Multiple.of(LDT, LDT))
+        .prepare();
+      // Act
+      final var RESULT = SUBJECT.bind(OffsetDateTime.of(LDT, ZoneOffset.ofHoursMinutes(-3, -30)),
+        OffsetDateTime.of(LDT, ZoneOffset.UTC));
+      // Assert
+      Assertions.assertEquals("SELECT * FROM 'table_1' WHERE 'field_1' IN "
+          + "('0800-01-02 03:04:05-03:30', '0800-01-02 03:04:05+00:00');", RESULT.inline());
     }
   }
 }
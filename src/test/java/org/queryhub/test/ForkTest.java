@@ -0,0 +1,99 @@
+package org.queryhub.test;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.queryhub.Query;
+import org.queryhub.field.Single;
+import org.queryhub.steps.Sort.Aggregate;
+import org.queryhub.steps.Sort.Type;
+import org.queryhub.steps.Where;
+import org.queryhub.steps.Where.Relation;
+
+/**
+ * Defines {@link Query#fork(Object)}-related test cases.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+@Tag(BaseTest.FORK_TAG)
+@DisplayName("Fork test cases.")
+final class ForkTest extends BaseTest {
+
+  private static final String PREFIX = "SELECT 'field_1' FROM 'table_1' WHERE 'field_1' >= 1";
+
+  private Where.Mixin base;
+
+  /**
+   * @since 0.1.0
+   */
+  @BeforeEach
+  final void prepareScenario() {
+    // Arrange
+    base = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Relation.GTE, Single.of(1));
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should build forks independently from each other.")
+  final void shouldBuild_forks_independently() {
+    // Act
+    final var first = Query.fork(base).and(Single.of(FIELD_2), Single.of(VALUE_1)).build();
+    final var second = Query.fork(base).sort(Type.ORDER_BY, Aggregate.of(FIELD_2)).build();
+    final var result = base.or(Single.of(FIELD_2), Single.of(VALUE_2)).build();
+    // Assert
+    Assertions.assertEquals(PREFIX + " AND 'field_2' IN ('value_1');", first);
+
+    Assertions.assertEquals(PREFIX + " ORDER BY 'field_2' ASC;", second);
+
+    Assertions.assertEquals(PREFIX + " OR 'field_2' IN ('value_2');", result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should fork forks, keeping them equal to statements built directly.")
+  final void shouldFork_forks() {
+    // Arrange
+    final var fork = Query.fork(base).and(Single.of(FIELD_2), Single.of(VALUE_1));
+    Query.fork(fork).build();
+    // Act
+    final var result = Query.fork(fork).or(Single.of(FIELD_2), Single.of(VALUE_2));
+    final var direct = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Relation.GTE, Single.of(1))
+      .and(Single.of(FIELD_2), Single.of(VALUE_1))
+      .or(Single.of(FIELD_2), Single.of(VALUE_2));
+    // Assert
+    Assertions.assertEquals(direct, result);
+
+    final var statement = result.prepare(Boolean.FALSE);
+
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' >= ? "
+      + "AND 'field_2' IN (?) OR 'field_2' IN (?)", statement.sql());
+
+    Assertions.assertEquals(List.of(1L, VALUE_1, VALUE_2), statement.parameters());
+
+    Assertions.assertEquals(PREFIX + " AND 'field_2' IN ('value_1');", fork.build());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should not fork finished statements.")
+  final void shouldNotFork_finishedStatements() {
+    // Arrange
+    base.build();
+    // Act / Assert
+    Assertions.assertThrows(IllegalStateException.class, () -> Query.fork(base));
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Query.fork(TABLE_1));
+  }
+}
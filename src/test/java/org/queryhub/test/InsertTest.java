@@ -1,12 +1,25 @@
 package org.queryhub.test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.queryhub.Query;
+import org.queryhub.field.Multiple;
 import org.queryhub.field.Single;
+import org.queryhub.steps.Batch.Limits;
 import org.queryhub.steps.Insert;
+import org.queryhub.steps.Statement;
 
 /**
  * Defines {@link Insert {@code INSERT}}'s test cases.
@@ -53,4 +66,205 @@ final class InsertTest extends BaseTest {
     // Assert
     Assertions.assertEquals(QUERY, result);
   }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should build insert query with many rows.")
+  final void shouldBuild_insertQuery_withManyRows() {
+    // Arrange
+    final var QUERY =
+      "INSERT INTO 'table_1' VALUES ('value_1', 'field_1') , ('value_2', 'field_2');";
+    // Act
+    final var result = Query
+      .insert(Single.of(TABLE_1))
+      .values(Multiple.of(VALUE_1, FIELD_1), Multiple.of(VALUE_2, FIELD_2))
+      .build();
+    // Assert
+    Assertions.assertEquals(QUERY, result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should keep a batch within a single statement when under the limits.")
+  final void shouldKeep_batch_withinSingleStatement_whenUnderLimits() {
+    // Arrange
+    final var rows = List.of(Multiple.of(VALUE_1, FIELD_1), Multiple.of(VALUE_2, FIELD_2));
+    final var expected = Query.insert(Single.of(TABLE_1))
+      .values(Multiple.of(VALUE_1, FIELD_1), Multiple.of(VALUE_2, FIELD_2))
+      .build();
+    // Act
+    final var result = Query.insert(Single.of(TABLE_1)).values(rows).build();
+    // Assert
+    Assertions.assertEquals(List.of(expected), result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should split a batch by row count.")
+  final void shouldSplit_batch_byRowCount() {
+    // Arrange
+    final var rows = List.of(Single.of(1), Single.of(2), Single.of(3));
+    // Act
+    final var result = Query.insert(Single.of(TABLE_1))
+      .values(rows, Limits.of(2, Integer.MAX_VALUE, Long.MAX_VALUE))
+      .build(Boolean.FALSE);
+    // Assert
+    Assertions.assertEquals(List.of("INSERT INTO 'table_1' VALUES (1) , (2)",
+      "INSERT INTO 'table_1' VALUES (3)"), result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should split a batch by parameter count.")
+  final void shouldSplit_batch_byParameterCount() {
+    // Arrange
+    final var rows = List.of(Multiple.of(1L, 2L), Multiple.of(3L, 4L), Multiple.of(5L, 6L, 7L));
+    // Act
+    final var result = Query.insert(Single.of(TABLE_1))
+      .values(rows, Limits.of(Integer.MAX_VALUE, 4, Long.MAX_VALUE))
+      .prepare();
+    // Assert
+    Assertions.assertEquals(List.of("INSERT INTO 'table_1' VALUES (?, ?) , (?, ?);",
+      "INSERT INTO 'table_1' VALUES (?, ?, ?);"),
+      result.stream().map(Statement::sql).collect(Collectors.toList()));
+
+    Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), result.get(0).parameters());
+
+    Assertions.assertEquals(List.of(5L, 6L, 7L), result.get(1).parameters());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should split a batch by byte size.")
+  final void shouldSplit_batch_byByteSize() {
+    // Arrange
+    final var head = "INSERT INTO 'table_1' VALUES";
+    final var rows = List.of(Single.of("\u00e9"), Single.of("a"));
+    // Act
+    final var result = Query.insert(Single.of(TABLE_1))
+      .values(rows, Limits.of(Integer.MAX_VALUE, Integer.MAX_VALUE, head.length() + 14))
+      .build();
+    // Assert
+    Assertions.assertEquals(List.of(head + " ('\u00e9');", head + " ('a');"), result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should set a row which exceeds the limits into its own statement.")
+  final void shouldSet_exceedingRow_intoItsOwnStatement() {
+    // Arrange
+    final var rows = List.of(Multiple.of(1, 2, 3), Single.of(4));
+    // Act
+    final var result = Query.insert(Single.of(TABLE_1))
+      .values(rows, Limits.of(Integer.MAX_VALUE, 2, Long.MAX_VALUE))
+      .build(Boolean.FALSE);
+    // Assert
+    Assertions.assertEquals(List.of("INSERT INTO 'table_1' VALUES (1, 2, 3)",
+      "INSERT INTO 'table_1' VALUES (4)"), result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should not accept a batch without rows nor non-positive limits.")
+  final void shouldNotAccept_batchWithoutRows_norNonPositiveLimits() {
+    // Act / Assert
+    Assertions.assertThrows(IllegalArgumentException.class,
+      () -> Query.insert(Single.of(TABLE_1)).values(List.of()));
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Limits.of(1, 0, 1));
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should stream batched insert queries into a writer.")
+  final void shouldStream_batchedInsertQueries_intoWriter() throws IOException {
+    // Arrange
+    final var writer = new StringWriter();
+    final var rows = Stream.of(Multiple.of(1L, 2L), Multiple.of(3L, 4L), Multiple.of(5L, 6L));
+    // Act
+    final var result = Query.insert(Single.of(TABLE_1))
+      .sink(Limits.of(2, Integer.MAX_VALUE, Long.MAX_VALUE))
+      .writeTo(writer, rows);
+    // Assert
+    Assertions.assertEquals(2L, result);
+
+    Assertions.assertEquals("INSERT INTO 'table_1' VALUES (1, 2) , (3, 4);\n"
+      + "INSERT INTO 'table_1' VALUES (5, 6);\n", writer.toString());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should stream rows rendered the same way as batched ones.")
+  final void shouldStream_rows_renderedSameWay_asBatchedOnes() throws IOException {
+    // Arrange
+    final var writer = new StringWriter();
+    final var rows = List.of(Multiple.of(new long[]{1L, 2L}), Multiple.of(new double[]{1.5D, 2D}),
+      Multiple.of("a", "\"b\""));
+    final var limits = Limits.of(2, Integer.MAX_VALUE, Long.MAX_VALUE);
+    // Act
+    final var result = Query.insert(Single.of(TABLE_1)).sink(limits)
+      .writeTo(writer, rows.iterator());
+    // Assert
+    Assertions.assertEquals(2L, result);
+
+    Assertions.assertEquals(Query.insert(Single.of(TABLE_1)).values(rows, limits)
+      .build(Boolean.FALSE)
+      .stream()
+      .map(statement -> statement + ";\n")
+      .collect(Collectors.joining()), writer.toString());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should stream UTF-8 encoded insert queries into a channel.")
+  final void shouldStream_utf8EncodedInsertQueries_intoChannel() throws IOException {
+    // Arrange
+    final var output = new ByteArrayOutputStream();
+    final var rows = List.of(Single.of("\u00e9"), Single.of(VALUE_1)).iterator();
+    // Act
+    final var result = Query.insert(Single.of(TABLE_1)).sink()
+      .writeTo(Channels.newChannel(output), rows);
+    // Assert
+    Assertions.assertEquals(1L, result);
+
+    Assertions.assertEquals("INSERT INTO 'table_1' VALUES ('\u00e9') , ('value_1');\n",
+      output.toString(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should stream as many insert queries as the limits require.")
+  final void shouldStream_asManyInsertQueries_asLimitsRequire() throws IOException {
+    // Arrange
+    final var writer = new StringWriter();
+    final var sink = Query.insert(Single.of(TABLE_1)).sink();
+    // Act
+    final var result = sink.writeTo(writer, LongStream.range(0, 10_000).mapToObj(Single::of));
+    // Assert
+    Assertions.assertEquals(10L, result);
+
+    Assertions.assertEquals(0L, sink.writeTo(writer, Collections.emptyIterator()));
+  }
 }
@@ -1,5 +1,8 @@
 package org.queryhub.test;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -8,6 +11,8 @@ import org.queryhub.Query;
 import org.queryhub.field.Multiple;
 import org.queryhub.field.Single;
 import org.queryhub.steps.Terminal.Select;
+import org.queryhub.steps.Where.InList;
+import org.queryhub.steps.Where.InList.Strategy;
 import org.queryhub.steps.Where.Relation;
 
 /**
@@ -107,4 +112,152 @@ final class SelectTest extends BaseTest {
     // Assert
     Assertions.assertEquals(QUERY, result);
   }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should inline IN lists up to the strategy's threshold.")
+  final void shouldInline_inLists_upToStrategyThreshold() {
+    // Arrange
+    final var QUERY = "SELECT 'field_1' FROM 'table_1' WHERE 'field_1' IN (1, 2, 3);";
+    // Act
+    final var result = Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(1L, 2L, 3L), InList.of(3, Strategy.SPLIT))
+      .build();
+    // Assert
+    Assertions.assertEquals(QUERY, result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should split IN lists longer than the strategy's threshold.")
+  final void shouldSplit_inLists_longerThanStrategyThreshold() {
+    // Arrange
+    final var QUERY = "SELECT 'field_1' FROM 'table_1' WHERE 'field_2' >= ? "
+      + "AND ('field_1' IN (?, ?) OR 'field_1' IN (?, ?) OR 'field_1' IN (?));";
+    // Act
+    final var result = Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_2), Relation.GTE, Single.of(0L))
+      .and(Single.of(FIELD_1), Multiple.of(1L, 2L, 3L, 4L, 5L), InList.of(2, Strategy.SPLIT))
+      .prepare();
+    // Assert
+    Assertions.assertEquals(QUERY, result.sql());
+
+    Assertions.assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L), result.parameters());
+
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_2' >= 9 "
+        + "AND ('field_1' IN (8, 7) OR 'field_1' IN (6, 5) OR 'field_1' IN (4));",
+      result.bind(9L, 8L, 7L, 6L, 5L, 4L).inline());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should join IN lists against VALUES lists.")
+  final void shouldJoin_inLists_againstValuesLists() {
+    // Arrange
+    final var QUERY = "SELECT 'field_1' FROM 'table_1' WHERE 'field_1' < 'field_2' "
+      + "OR 'field_1' IN (VALUES ('value_1'), ('value_2'));";
+    // Act
+    final var result = Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Relation.LT, Single.of(FIELD_2))
+      .or(Single.of(FIELD_1), Multiple.of(VALUE_1, VALUE_2), InList.of(1, Strategy.VALUES))
+      .build();
+    // Assert
+    Assertions.assertEquals(QUERY, result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should bind IN lists as a single array parameter.")
+  final void shouldBind_inLists_asSingleArrayParameter() {
+    // Arrange
+    final var inList = InList.of(1, Strategy.ARRAY);
+    // Act
+    final var result = Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(1L, 2L), inList)
+      .prepare(Boolean.FALSE);
+    // Assert
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' = ANY (?)",
+      result.sql());
+
+    Assertions.assertArrayEquals(new Object[]{1L, 2L}, (Object[]) result.parameters().get(0));
+
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' = ANY (ARRAY[1, 2])",
+      result.inline());
+
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' = ANY (ARRAY[3, 4])",
+      result.bind((Object) new long[]{3L, 4L}).inline());
+
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' = ANY (ARRAY[5])",
+      result.bind(List.of(5L)).inline());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> result.bind(6L));
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should pad IN lists up to the next power of two.")
+  final void shouldPad_inLists_upToNextPowerOfTwo() {
+    // Arrange
+    final var inList = InList.DEFAULT.padded();
+    final var shapes = new HashSet<String>();
+    // Act
+    final var result = Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(1L, 2L, 3L), inList)
+      .prepare();
+    for (var size = 1; size <= 100; size++) {
+      final var values = LongStream.range(1, size).boxed().toArray(Long[]::new);
+      shapes.add(Query
+        .select(Single.of(TABLE_1), Single.of(FIELD_1))
+        .where(Single.of(FIELD_1), Multiple.of(0L, values), inList)
+        .prepare()
+        .sql());
+    }
+    // Assert
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' IN (?, ?, ?, ?);",
+      result.sql());
+
+    Assertions.assertEquals(List.of(1L, 2L, 3L, 3L), result.parameters());
+
+    Assertions.assertEquals(8, shapes.size());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should pad IN lists up to the given buckets.")
+  final void shouldPad_inLists_upToGivenBuckets() {
+    // Arrange
+    final var inList = InList.of(4, Strategy.SPLIT).padded(10, 5);
+    // Act
+    final var result = Query
+      .select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(1L, 2L, 3L, 4L, 5L, 6L), inList)
+      .build();
+    // Assert
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE ('field_1' IN (1, 2, 3, 4) "
+      + "OR 'field_1' IN (5, 6, 6, 6) OR 'field_1' IN (6, 6));", result);
+
+    Assertions.assertEquals(List.of(5, 5, 10, 20, 30), List.of(inList.pad(1), inList.pad(5),
+      inList.pad(6), inList.pad(11), inList.pad(21)));
+
+    Assertions.assertEquals(3, InList.of(1, Strategy.ARRAY).padded().pad(3));
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> inList.padded(0));
+  }
 }
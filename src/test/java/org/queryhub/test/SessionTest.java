@@ -0,0 +1,422 @@
+package org.queryhub.test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.queryhub.Query;
+import org.queryhub.field.Multiple;
+import org.queryhub.field.Single;
+import org.queryhub.jdbc.Coalescer;
+import org.queryhub.jdbc.Session;
+import org.queryhub.jdbc.UnitOfWork;
+import org.queryhub.steps.Batch.Limits;
+import org.queryhub.steps.Statement;
+
+/**
+ * Defines {@link Session}-related test cases, against an in-memory database.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+@Tag(BaseTest.SESSION_TAG)
+@DisplayName("Session test cases.")
+final class SessionTest extends BaseTest {
+
+  private static final Single ITEMS = () -> "items";
+  private static final Single ID = () -> "id";
+  private static final Single AMOUNT = () -> "amount";
+
+  private Connection connection;
+
+  /**
+   * @throws SQLException if the database fails to be prepared.
+   * @since 0.1.0
+   */
+  @BeforeEach
+  final void prepareScenario() throws SQLException {
+    // Arrange
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (final var statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE items (id BIGINT PRIMARY KEY, amount BIGINT)");
+    }
+  }
+
+  /**
+   * @throws SQLException if the database fails to be closed.
+   * @since 0.1.0
+   */
+  @AfterEach
+  final void closeScenario() throws SQLException {
+    connection.close();
+  }
+
+  /**
+   * @throws SQLException if a statement fails to be executed.
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should execute statements, preparing each shape only once.")
+  final void shouldExecute_statements_preparingEachShape_onlyOnce() throws SQLException {
+    // Arrange
+    try (final var subject = Session.of(connection)) {
+      // Act
+      var inserted = 0;
+      for (var i = 1L; i <= 3L; i++) {
+        inserted += subject.update(Query.insert(ITEMS)
+          .values(Multiple.of(i, i * 10))
+          .prepare(Boolean.FALSE));
+      }
+      final var first = subject.prepare(Query.select(ITEMS, AMOUNT)
+        .where(ID, Single.of(1L))
+        .prepare(Boolean.FALSE));
+      final var result = subject.query(Query.select(ITEMS, AMOUNT)
+        .where(ID, Single.of(2L))
+        .prepare(Boolean.FALSE), row -> row.getLong(1));
+      final var second = subject.prepare(Query.select(ITEMS, AMOUNT)
+        .where(ID, Single.of(3L))
+        .prepare(Boolean.FALSE));
+      // Assert
+      Assertions.assertEquals(3, inserted);
+
+      Assertions.assertEquals(List.of(20L), result);
+
+      Assertions.assertSame(first, second);
+
+      Assertions.assertEquals(2, subject.size());
+    }
+  }
+
+  /**
+   * @throws SQLException if a statement fails to be executed.
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should close the least recently used statements beyond the capacity.")
+  final void shouldClose_leastRecentlyUsedStatements_beyondCapacity() throws SQLException {
+    // Arrange
+    final var subject = Session.of(connection, 2);
+    final var select = Query.select(ITEMS, AMOUNT).where(ID, Single.of(1L)).prepare(Boolean.FALSE);
+    final var delete = Query.delete(ITEMS).where(ID, Single.of(1L)).prepare(Boolean.FALSE);
+    final var count = Query.select(ITEMS, ID).prepare(Boolean.FALSE);
+    // Act
+    final var first = subject.prepare(select);
+    final var second = subject.prepare(delete);
+    subject.prepare(select);
+    subject.prepare(count);
+    // Assert
+    Assertions.assertEquals(2, subject.size());
+
+    Assertions.assertFalse(first.isClosed());
+
+    Assertions.assertTrue(second.isClosed());
+
+    subject.close();
+
+    Assertions.assertEquals(0, subject.size());
+
+    Assertions.assertTrue(first.isClosed());
+
+    Assertions.assertFalse(connection.isClosed());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Session.of(connection, 0));
+  }
+
+  /**
+   * @throws SQLException if a statement fails to be executed.
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should execute bound statements in batches, keeping their update counts.")
+  final void shouldExecute_boundStatements_inBatches() throws SQLException {
+    // Arrange
+    final var insert = Query.insert(ITEMS).values(Multiple.of(0L, 0)).prepare(Boolean.FALSE);
+    final var delete = Query.delete(ITEMS).where(ID, Single.of(0L)).prepare(Boolean.FALSE);
+    final var statements = new ArrayList<Statement>();
+    for (var i = 1L; i <= 5L; i++) {
+      statements.add(insert.bind(i, i * 10));
+    }
+    statements.add(delete.bind(2L));
+    statements.add(delete.bind(9L));
+    statements.add(insert.bind(9L, 90L));
+    try (final var subject = Session.of(connection, 1)) {
+      // Act
+      final var result = subject.batch(statements, 2);
+      final var ids = subject.query(Query.select(ITEMS, ID).prepare(Boolean.FALSE),
+        row -> row.getLong(1));
+      // Assert
+      Assertions.assertArrayEquals(new int[]{1, 1, 1, 1, 1, 1, 0, 1}, result);
+
+      Assertions.assertEquals(List.of(1L, 3L, 4L, 5L, 9L), ids);
+
+      Assertions.assertArrayEquals(new int[0], subject.batch(List.of()));
+
+      Assertions.assertThrows(IllegalArgumentException.class,
+        () -> subject.batch(statements, 0));
+    }
+  }
+
+  /**
+   * @throws SQLException if a statement fails to be executed.
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should discard the pending batch when a batch fails midway.")
+  final void shouldDiscard_pendingBatch_whenBatchFails_midway() throws SQLException {
+    // Arrange
+    final var insert = Query.insert(ITEMS).values(Multiple.of(0L, 0)).prepare(Boolean.FALSE);
+    try (final var subject = Session.of(connection)) {
+      // Act
+      Assertions.assertThrows(NullPointerException.class,
+        () -> subject.batch(Arrays.asList(insert.bind(1L, 10L), insert.bind(2L, 20L), null)));
+      final var result = subject.batch(List.of(insert.bind(9L, 90L)));
+      final var ids = subject.query(Query.select(ITEMS, ID).prepare(Boolean.FALSE),
+        row -> row.getLong(1));
+      // Assert
+      Assertions.assertArrayEquals(new int[]{1}, result);
+
+      Assertions.assertEquals(List.of(9L), ids);
+    }
+  }
+
+  /**
+   * @throws Exception if the rows fail to be inserted.
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should coalesce rows submitted by many threads into grouped inserts.")
+  final void shouldCoalesce_rowsSubmitted_byManyThreads() throws Exception {
+    // Arrange
+    final var subject = Coalescer.of(connection, Duration.ofMillis(5), 64);
+    final var pool = Executors.newFixedThreadPool(8);
+    final var futures = new ArrayList<Future<CompletableFuture<Void>>>();
+    // Act
+    for (var i = 1L; i <= 400L; i++) {
+      final var id = i;
+      futures.add(pool.submit(() -> subject.submit(ITEMS, Multiple.of(id, id * 10))));
+    }
+    for (final var future : futures) {
+      future.get().get();
+    }
+    pool.shutdown();
+    subject.close();
+    // Assert
+    try (final var session = Session.of(connection)) {
+      final var count = session.query(Query.select(ITEMS, () -> "COUNT(*)").prepare(Boolean.FALSE),
+        row -> row.getLong(1));
+
+      Assertions.assertEquals(List.of(400L), count);
+    }
+
+    Assertions.assertThrows(IllegalStateException.class,
+      () -> subject.submit(ITEMS, Multiple.of(1L, 1L)));
+  }
+
+  /**
+   * @throws SQLException if the coalescer fails to be closed.
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should fail only the rows which fail on their own within a group.")
+  final void shouldFail_onlyRows_whichFail_onTheirOwn() throws SQLException {
+    // Arrange
+    final var subject = Coalescer.of(connection, Duration.ofSeconds(5), 3);
+    // Act
+    final var first = subject.submit(ITEMS, Multiple.of(1L, 10L));
+    final var second = subject.submit(ITEMS, Multiple.of(2L, 20L));
+    final var duplicate = subject.submit(ITEMS, Multiple.of(1L, 30L));
+    // Assert
+    Assertions.assertNull(first.join());
+
+    Assertions.assertNull(second.join());
+
+    final var failure = Assertions.assertThrows(CompletionException.class, duplicate::join);
+
+    Assertions.assertTrue(failure.getCause() instanceof SQLException);
+
+    subject.close();
+
+    Assertions.assertThrows(IllegalArgumentException.class,
+      () -> Coalescer.of(connection, Duration.ofMillis(1), 0));
+  }
+
+  /**
+   * @throws SQLException if the coalescer fails to be closed.
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should split groups by the given limits, failing only the rows which fail.")
+  final void shouldSplit_groups_byGivenLimits() throws SQLException {
+    // Arrange
+    final var subject = Coalescer.of(connection, Duration.ofSeconds(5), 5,
+      Limits.of(2, Short.MAX_VALUE, 1L << 20));
+    // Act
+    final var futures = new ArrayList<CompletableFuture<Void>>();
+    for (final var id : List.of(1L, 2L, 3L, 4L, 1L)) {
+      futures.add(subject.submit(ITEMS, Multiple.of(id, id * 10)));
+    }
+    // Assert
+    for (final var future : futures.subList(0, 4)) {
+      Assertions.assertNull(future.join());
+    }
+
+    Assertions.assertThrows(CompletionException.class, futures.get(4)::join);
+
+    subject.close();
+
+    try (final var session = Session.of(connection)) {
+      final var ids = session.query(Query.select(ITEMS, ID).prepare(Boolean.FALSE),
+        row -> row.getLong(1));
+
+      Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), ids);
+    }
+
+    Assertions.assertTrue(connection.getAutoCommit());
+  }
+
+  /**
+   * @throws SQLException if the coalescer fails to be closed.
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should close the coalescer, failing its rows, when its flusher throws an error.")
+  final void shouldClose_coalescer_whenFlusherThrows_anError() throws SQLException {
+    // Arrange
+    final var error = new AssertionError(ITEMS);
+    final Single broken = () -> {
+      throw error;
+    };
+    final var subject = Coalescer.of(connection, Duration.ofSeconds(5), 2);
+    // Act
+    final var first = subject.submit(broken, Multiple.of(1L, 10L));
+    final var second = subject.submit(ITEMS, Multiple.of(2L, 20L));
+    final var failure = Assertions.assertThrows(CompletionException.class, first::join);
+    // Assert
+    Assertions.assertSame(error, failure.getCause());
+
+    Assertions.assertThrows(CompletionException.class, second::join);
+
+    Assertions.assertThrows(IllegalStateException.class,
+      () -> subject.submit(ITEMS, Multiple.of(3L, 30L)));
+
+    subject.close();
+  }
+
+  /**
+   * @throws Exception if the flushing thread fails to be joined.
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should close the coalescer when its flusher is interrupted.")
+  final void shouldClose_coalescer_whenFlusherIsInterrupted() throws Exception {
+    // Arrange
+    final var subject = Coalescer.of(connection, Duration.ofSeconds(5), 2);
+    final var flusher = Thread.getAllStackTraces().keySet().stream()
+      .filter(thread -> "queryhub-coalescer".equals(thread.getName()) && thread.isAlive())
+      .findFirst()
+      .orElseThrow();
+    // Act
+    flusher.interrupt();
+    flusher.join();
+    // Assert
+    Assertions.assertThrows(IllegalStateException.class,
+      () -> subject.submit(ITEMS, Multiple.of(1L, 10L)));
+
+    subject.close();
+  }
+
+  /**
+   * @throws SQLException if the writes fail to be sent.
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should send buffered writes sorted, merging updates of the same row.")
+  final void shouldSend_bufferedWrites_sorted_mergingUpdates_ofSameRow() throws SQLException {
+    // Arrange
+    final Single audits = () -> "audits";
+    final Single note = () -> "note";
+    try (final var statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE audits (id BIGINT PRIMARY KEY, amount BIGINT, note CHAR(1))");
+    }
+    try (final var session = Session.of(connection)) {
+      final var subject = UnitOfWork.of(session);
+      // Act
+      subject.update(ITEMS, ID, Single.of(9L), AMOUNT, Single.of(90L))
+        .insert(ITEMS, Multiple.of(1L, 10L))
+        .insert(ITEMS, Multiple.of(2L, 20L))
+        .update(ITEMS, ID, Single.of(1L), AMOUNT, Single.of(11L))
+        .insert(audits, Multiple.of(1L, 0L, 2L))
+        .update(audits, ID, Single.of(1L), note, Single.of("x"))
+        .update(ITEMS, ID, Single.of(1L), AMOUNT, Single.of(12L))
+        .update(audits, ID, Single.of(1L), AMOUNT, Single.of(5L));
+      final var size = subject.size();
+      final var result = subject.flush();
+      // Assert
+      Assertions.assertEquals(6, size);
+
+      Assertions.assertArrayEquals(new int[]{1, 1, 1, 1, 1, 0}, result);
+
+      Assertions.assertEquals(0, subject.size());
+
+      Assertions.assertEquals(List.of(12L), session.query(Query.select(ITEMS, AMOUNT)
+        .where(ID, Single.of(1L))
+        .prepare(Boolean.FALSE), row -> row.getLong(1)));
+
+      Assertions.assertEquals(List.of("5x"),
+        session.query(Query.select(audits, () -> "amount, note").prepare(Boolean.FALSE),
+          row -> row.getLong(1) + row.getString(2)));
+    }
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should merge buffered updates of the same row, whatever its key's number type.")
+  final void shouldMerge_bufferedUpdates_ofSameRow_whateverKeysNumberType() {
+    // Arrange
+    final var subject = UnitOfWork.of(Session.of(connection));
+    // Act
+    subject.update(ITEMS, ID, Single.of(10L), AMOUNT, Single.of(100L))
+      .update(ITEMS, ID, Single.of(9L), AMOUNT, Single.of(90L))
+      .update(ITEMS, ID, number(9), AMOUNT, Single.of(91L))
+      .update(ITEMS, ID, number(new BigDecimal("9.0")), AMOUNT, Single.of(92L));
+    // Assert
+    Assertions.assertEquals(2, subject.size());
+  }
+
+  // Private
+
+  /**
+   * @param value A number.
+   * @return A field holding the number as it is, rendered by its string representation.
+   * @since 0.1.0
+   */
+  private static Single number(final Number value) {
+    return new Single() {
+      @Override
+      public String get() {
+        return value.toString();
+      }
+
+      @Override
+      public List<Object> parameters() {
+        return List.of(value);
+      }
+    };
+  }
+}
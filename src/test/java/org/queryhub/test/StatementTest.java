@@ -0,0 +1,219 @@
+package org.queryhub.test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.queryhub.Query;
+import org.queryhub.field.Field.Constants;
+import org.queryhub.field.Multiple;
+import org.queryhub.field.Single;
+import org.queryhub.steps.Statement;
+import org.queryhub.steps.Where.Relation;
+
+/**
+ * Defines {@link Statement}-related test cases.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+@Tag(BaseTest.STATEMENT_TAG)
+@DisplayName("Parameterized statement test cases.")
+final class StatementTest extends BaseTest {
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should replace values by placeholders.")
+  final void shouldReplace_values_byPlaceholders() {
+    // Act
+    final var result = Query
+      .select(Single.of(TABLE_1), Multiple.of(FIELD_1, FIELD_2))
+      .where(Single.of(FIELD_1), Relation.GT, Single.of(VALUE_1))
+      .and(Single.of(FIELD_2), Multiple.of(1, 2, 3))
+      .limit(10, 20)
+      .prepare();
+    // Assert
+    Assertions.assertEquals("SELECT 'field_1', 'field_2' FROM 'table_1' WHERE 'field_1' > ? "
+      + "AND 'field_2' IN (?, ?, ?) LIMIT ? , ?;", result.sql());
+
+    Assertions.assertEquals(List.of(VALUE_1, 1L, 2, 3, 10L, 20L), result.parameters());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should produce the same string for the same shape.")
+  final void shouldProduce_sameString_forSameShape() {
+    // Act
+    final var one = Query.update(Single.of(TABLE_1))
+      .set(Single.of(FIELD_1), Single.of(VALUE_1))
+      .and(Single.of(FIELD_2), Single.of(LocalDate.of(2019, 10, 18)))
+      .prepare(Boolean.FALSE);
+
+    final var other = Query.update(Single.of(TABLE_1))
+      .set(Single.of(FIELD_1), Single.of(VALUE_2))
+      .and(Single.of(FIELD_2), Single.of(LocalDate.of(2020, 1, 1)))
+      .prepare(Boolean.FALSE);
+    // Assert
+    Assertions.assertEquals("UPDATE 'table_1' SET 'field_1' = ? , 'field_2' = ?", one.sql());
+
+    Assertions.assertEquals(one.sql(), other.sql());
+
+    Assertions.assertEquals(List.of(VALUE_2, LocalDate.of(2020, 1, 1)), other.parameters());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should prepare composite statements.")
+  final void shouldPrepare_compositeStatements() {
+    // Act
+    final var result = Query
+      .delete(Single.of(TABLE_1))
+      .where(Single.of(FIELD_1), Relation.NEQ, Single.of(VALUE_2))
+      .or(Single.of(FIELD_1), Query.select(Single.of(TABLE_2), Single.of(FIELD_2)))
+      .and(Single.of(FIELD_2), Multiple.of(Boolean.TRUE, Boolean.FALSE))
+      .prepare();
+    // Assert
+    Assertions.assertEquals("DELETE FROM 'table_1' WHERE 'field_1' != ? OR 'field_1' IN "
+      + "(SELECT 'field_2' FROM 'table_2') AND 'field_2' IN (?, ?);", result.sql());
+
+    Assertions.assertEquals(List.of(VALUE_2, Boolean.TRUE, Boolean.FALSE), result.parameters());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should inline fields without parameters.")
+  final void shouldInline_fields_withoutParameters() {
+    // Act
+    final var result = Query
+      .insert(Single.of(TABLE_1))
+      .values(Constants.VARIABLE)
+      .prepare();
+    // Assert
+    Assertions.assertEquals("INSERT INTO 'table_1' VALUES (?);", result.sql());
+
+    Assertions.assertTrue(result.parameters().isEmpty());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should remove redundant double quotes from parameters.")
+  final void shouldRemove_redundantDoubleQuotes_fromParameters() {
+    // Act / Assert
+    Assertions.assertEquals(List.of("1"), Single.of("\"1\"").parameters());
+
+    Assertions.assertEquals(List.of("1", "2"), Multiple.of("\"1\"", "\"2\"").parameters());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should finish statement building after being prepared.")
+  final void shouldFinish_statementBuilding_afterBeingPrepared() {
+    // Arrange
+    final var subject = Query.select(Single.of(TABLE_1), Single.of(FIELD_1));
+    // Act
+    subject.prepare();
+    // Assert
+    Assertions.assertThrows(IllegalStateException.class, subject::prepare);
+
+    Assertions.assertThrows(IllegalStateException.class, subject::build);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should inline values the same way as the build method.")
+  final void shouldInline_values_sameWay_asBuildMethod() {
+    // Arrange
+    final var expected = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(VALUE_1, VALUE_2))
+      .build();
+    // Act
+    final var result = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(VALUE_1, VALUE_2))
+      .prepare();
+    // Assert
+    Assertions.assertEquals(expected, result.inline());
+
+    Assertions.assertEquals(expected, result.inline());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should bind new values keeping the same shape.")
+  final void shouldBind_newValues_keeping_sameShape() {
+    // Arrange
+    final var subject = Query.update(Single.of(TABLE_1))
+      .set(Single.of(FIELD_1), Single.of(VALUE_1))
+      .and(Single.of(FIELD_2), Single.of(Boolean.TRUE))
+      .where(Single.of(FIELD_2), Multiple.of(1, 2))
+      .prepare();
+    // Act
+    final var result = subject.bind("\"value_3\"", null, 3L, LocalDate.of(2019, 10, 18));
+    // Assert
+    Assertions.assertEquals(subject.sql(), result.sql());
+
+    Assertions.assertEquals(Arrays.asList("\"value_3\"", null, 3L, LocalDate.of(2019, 10, 18)),
+      result.parameters());
+
+    Assertions.assertEquals("UPDATE 'table_1' SET 'field_1' = 'value_3' , 'field_2' = null "
+      + "WHERE 'field_2' IN (3, '2019-10-18');", result.inline());
+
+    Assertions.assertEquals("UPDATE 'table_1' SET 'field_1' = 'value_1' , 'field_2' = true "
+      + "WHERE 'field_2' IN (1, 2);", subject.inline());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should throw IllegalArgumentException when binding a different amount of values.")
+  final void shouldThrow_illegalArgumentException_whenBinding_differentAmountOfValues() {
+    // Arrange
+    final var subject = Query.delete(Single.of(TABLE_1))
+      .where(Single.of(FIELD_1), Relation.GT, Single.of(1))
+      .prepare();
+    // Act / Assert
+    Assertions.assertThrows(IllegalArgumentException.class, subject::bind);
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> subject.bind(1, 2));
+
+    Assertions.assertDoesNotThrow(() -> subject.bind(2));
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should not be affected by changes on the bound values' array.")
+  final void shouldNotBe_affected_byChanges_onBoundValuesArray() {
+    // Arrange
+    final var values = new Object[]{VALUE_1};
+    final var subject = Query.delete(Single.of(TABLE_1))
+      .where(Single.of(FIELD_1), Relation.LIKE, Single.of(VALUE_2))
+      .prepare(Boolean.FALSE)
+      .bind(values);
+    // Act
+    values[0] = VALUE_2;
+    // Assert
+    Assertions.assertEquals("DELETE FROM 'table_1' WHERE 'field_1' LIKE 'value_1'",
+      subject.inline());
+  }
+}
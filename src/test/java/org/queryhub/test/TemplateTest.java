@@ -0,0 +1,141 @@
+package org.queryhub.test;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.queryhub.Query;
+import org.queryhub.Template;
+import org.queryhub.field.Multiple;
+import org.queryhub.field.Parameter;
+import org.queryhub.field.Single;
+import org.queryhub.steps.Where.Relation;
+
+/**
+ * Defines {@link Template}-related test cases.
+ *
+ * @author <a href="mailto:queryhub.pub@gmail.com">Diego Rocha</a>
+ * @since 0.1.0
+ */
+@Tag(BaseTest.TEMPLATE_TAG)
+@DisplayName("Template test cases.")
+final class TemplateTest extends BaseTest {
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should bind values by name.")
+  final void shouldBind_values_byName() {
+    // Arrange
+    final var subject = Query.template(Query
+      .select(Single.of(TABLE_1), Multiple.of(FIELD_1, FIELD_2))
+      .where(Single.of(FIELD_1), Relation.GT, Parameter.of("min"))
+      .and(Single.of(FIELD_2), Parameter.of("keys"))
+      .limit(10));
+    // Act
+    final var result = subject.bind("min", 1).bind("keys", List.of(VALUE_1, VALUE_2)).build();
+    // Assert
+    Assertions.assertEquals("SELECT 'field_1', 'field_2' FROM 'table_1' WHERE 'field_1' > 1 "
+      + "AND 'field_2' IN ('value_1', 'value_2') LIMIT 0 , 10;", result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should bind the same value to repeated names.")
+  final void shouldBind_sameValue_toRepeatedNames() {
+    // Arrange
+    final var subject = Query.template(Query
+      .update(Single.of(TABLE_1))
+      .set(Single.of(FIELD_1), Parameter.of("value"))
+      .and(Single.of(FIELD_2), Parameter.of("value"))
+      .where(Single.of(FIELD_1), Relation.NEQ, Parameter.of("value")));
+    // Act
+    final var result = subject.build(Map.of("value", VALUE_1));
+    // Assert
+    Assertions.assertEquals("UPDATE 'table_1' SET 'field_1' = 'value_1' , 'field_2' = 'value_1' "
+      + "WHERE 'field_1' != 'value_1';", result);
+
+    Assertions.assertEquals(List.of("value"), List.copyOf(subject.names()));
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should be bound many times independently.")
+  final void shouldBe_bound_manyTimes_independently() {
+    // Arrange
+    final var subject = Query.template(Query
+      .insert(Single.of(TABLE_1))
+      .values(Parameter.of("row")));
+    // Act
+    final var one = subject.bind("row", List.of(1, VALUE_1));
+    final var other = subject.bind("row", List.of(2, VALUE_2));
+    // Assert
+    Assertions.assertEquals("INSERT INTO 'table_1' VALUES (1, 'value_1');", one.build());
+
+    Assertions.assertEquals("INSERT INTO 'table_1' VALUES (2, 'value_2')", other.build(false));
+
+    Assertions.assertEquals("INSERT INTO 'table_1' VALUES (1, 'value_1');", one.build());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should keep values which are not named placeholders.")
+  final void shouldKeep_values_whichAreNot_namedPlaceholders() {
+    // Arrange
+    final var subject = Query.template(Query
+      .delete(Single.of(TABLE_1))
+      .where(Single.of(FIELD_1), Relation.LT, Single.of(VALUE_1))
+      .or(Single.of(FIELD_2), Query.select(Single.of(TABLE_2), Single.of(FIELD_2))));
+    // Act / Assert
+    Assertions.assertEquals("DELETE FROM 'table_1' WHERE 'field_1' < 'value_1' "
+      + "OR 'field_2' IN (SELECT 'field_2' FROM 'table_2');", subject.binding().build());
+
+    Assertions.assertTrue(subject.names().isEmpty());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should render named placeholders as variables outside templates.")
+  final void shouldRender_namedPlaceholders_asVariables_outsideTemplates() {
+    // Act
+    final var result = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Parameter.of("keys"))
+      .prepare();
+    // Assert
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' IN (?);",
+      result.sql());
+
+    Assertions.assertTrue(result.parameters().isEmpty());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should throw exceptions when binding unknown names or missing some.")
+  final void shouldThrow_exceptions_whenBinding_unknownNames_orMissingSome() {
+    // Arrange
+    final var subject = Query.template(Query
+      .delete(Single.of(TABLE_1))
+      .where(Single.of(FIELD_1), Relation.GTE, Parameter.of("min"))
+      .and(Single.of(FIELD_1), Relation.LTE, Parameter.of("max")));
+    // Act / Assert
+    Assertions.assertThrows(IllegalArgumentException.class, () -> subject.bind("other", 1));
+
+    Assertions.assertThrows(IllegalStateException.class, () -> subject.bind("min", 1).build());
+
+    Assertions.assertEquals("DELETE FROM 'table_1' WHERE 'field_1' >= 1 AND 'field_1' <= 2;",
+      subject.bind("min", 1).bind("max", 2).build());
+  }
+}
@@ -1,11 +1,28 @@
 package org.queryhub.test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.queryhub.Cache;
 import org.queryhub.Query;
+import org.queryhub.Rope;
+import org.queryhub.field.Field;
+import org.queryhub.field.Multiple;
 import org.queryhub.field.Single;
 import org.queryhub.steps.Terminal;
 
@@ -72,4 +89,311 @@ final class TerminalTest extends BaseTest {
     // Act / Assert
     Assertions.assertEquals(q.build(), subject.toString());
   }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("renderTo() method should append to the given builder.")
+  final void renderToMethod_shouldAppend_toGivenBuilder() {
+    // Arrange
+    final var builder = new StringBuilder("-- ");
+    // Act
+    final var result = subject.renderTo(builder);
+    // Assert
+    Assertions.assertSame(builder, result);
+    Assertions.assertEquals("-- SELECT 'field_1' FROM 'table_1';", builder.toString());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("renderTo() method should have build()'s same output.")
+  final void renderToMethod_shouldHave_buildSameOutput() {
+    // Arrange
+    final var values = Multiple.of(1L, 2.5D, 3, 4.1F, (short) 5);
+    final var timestamp = Single.of(LocalDateTime.of(2019, 12, 11, 10, 30));
+    final var expected = Query.update(Single.of(TABLE_1)).set(Single.of(FIELD_1), timestamp)
+      .and(Single.of(FIELD_2), Single.of(Boolean.TRUE)).where(Single.of(FIELD_1), values)
+      .build(Boolean.FALSE);
+    // Act
+    final var result = Query.update(Single.of(TABLE_1)).set(Single.of(FIELD_1), timestamp)
+      .and(Single.of(FIELD_2), Single.of(Boolean.TRUE)).where(Single.of(FIELD_1), values)
+      .renderTo(new StringBuilder(), Boolean.FALSE);
+    // Assert
+    Assertions.assertEquals(expected, result.toString());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("renderTo() method should finish statement building after being called.")
+  final void renderToMethod_shouldFinish_statementBuilding_afterBeingCalled() {
+    // Act
+    subject.renderTo(new StringBuilder());
+    // Assert
+    Assertions.assertThrows(IllegalStateException.class, subject::build);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("appendTo() method should write into the given output.")
+  final void appendToMethod_shouldWrite_intoGivenOutput() throws IOException {
+    // Arrange
+    final var writer = new StringWriter();
+    // Act
+    subject.appendTo(writer, Boolean.FALSE);
+    // Assert
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1'", writer.toString());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("build() method should return the cached statement for the same structure.")
+  final void buildMethod_shouldReturn_cachedStatement_forSameStructure() {
+    // Arrange
+    final var cache = Cache.of(16);
+    final var first = subject.build(cache);
+    // Act
+    final var result = Query.select(Single.of(TABLE_1), Single.of(FIELD_1)).build(cache);
+    final var other = Query.select(Single.of(TABLE_1), Single.of(FIELD_2)).build(cache);
+    final var unterminated = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .build(cache, Boolean.FALSE);
+    // Assert
+    Assertions.assertSame(first, result);
+
+    Assertions.assertEquals("SELECT 'field_2' FROM 'table_1';", other);
+
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1'", unterminated);
+
+    Assertions.assertEquals(3, cache.size());
+
+    Assertions.assertThrows(IllegalStateException.class, subject::build);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("build() method should not cache statements with impure fields.")
+  final void buildMethod_shouldNotCache_statements_withImpureFields() {
+    // Arrange
+    final var cache = Cache.of(16);
+    final var values = new long[]{1L, 2L};
+    final var first = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(values))
+      .build(cache);
+    values[1] = 3L;
+    // Act
+    final var result = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(values))
+      .build(cache);
+    // Assert
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' IN (1, 2);", first);
+
+    Assertions.assertEquals("SELECT 'field_1' FROM 'table_1' WHERE 'field_1' IN (1, 3);", result);
+
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Cache should keep up to its capacity, evicting the least recently used.")
+  final void cache_shouldKeep_upToItsCapacity() {
+    // Arrange
+    final var cache = Cache.of(2);
+    final var first = Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1), Single.of(1))
+      .build(cache);
+    Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1), Single.of(2)).build(cache);
+    // Act
+    final var hit = Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1), Single.of(1))
+      .build(cache);
+    Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1), Single.of(3)).build(cache);
+    final var result = Query.delete(Single.of(TABLE_1)).where(Single.of(FIELD_1), Single.of(1))
+      .build(cache);
+    // Assert
+    Assertions.assertSame(first, hit);
+
+    Assertions.assertSame(first, result);
+
+    Assertions.assertEquals(2, cache.size());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Cache.of(0));
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("renderTo() method should encode the statement as UTF-8 into the given buffer.")
+  final void renderToMethod_shouldEncode_statement_intoGivenBuffer() {
+    // Arrange
+    final var expected = Query.select(Single.identifier(TABLE_1), Single.identifier("f\u00EDeld_1"))
+      .where(Single.of(FIELD_1), Multiple.of(-42L, Long.MIN_VALUE, 7L))
+      .and(Single.of(FIELD_2), Multiple.of("a\u00E7\u00E3o", "\uD83D\uDE00", "\uD83D"))
+      .build()
+      .getBytes(StandardCharsets.UTF_8);
+    final var direct = ByteBuffer.allocateDirect(expected.length);
+    // Act
+    final var result = Query.select(Single.identifier(TABLE_1), Single.identifier("f\u00EDeld_1"))
+      .where(Single.of(FIELD_1), Multiple.of(-42L, Long.MIN_VALUE, 7L))
+      .and(Single.of(FIELD_2), Multiple.of("a\u00E7\u00E3o", "\uD83D\uDE00", "\uD83D"))
+      .renderTo(direct);
+    // Assert
+    Assertions.assertSame(direct, result);
+
+    Assertions.assertEquals(ByteBuffer.wrap(expected), result.flip());
+
+    final var heap = subject.renderTo(ByteBuffer.allocate(64), Boolean.FALSE).flip();
+
+    Assertions.assertEquals(StandardCharsets.UTF_8.encode("SELECT 'field_1' FROM 'table_1'"),
+      heap);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("renderTo() method should fail when the buffer has no room for the statement.")
+  final void renderToMethod_shouldFail_whenBufferHasNoRoom() {
+    // Arrange
+    final var small = ByteBuffer.allocate(16).position(4);
+    final var negative = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(-123_456L));
+    // Act
+    Assertions.assertThrows(BufferOverflowException.class, () -> subject.renderTo(small));
+    final var result = subject.renderTo(ByteBuffer.allocate(256)).flip();
+    // Assert
+    Assertions.assertEquals(4, small.position());
+
+    Assertions.assertEquals(StandardCharsets.UTF_8.encode("SELECT 'field_1' FROM 'table_1';"),
+      result);
+
+    final var expected = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(-123_456L))
+      .build(Boolean.FALSE);
+    final var tight = ByteBuffer.allocate(expected.indexOf('-') + 1);
+
+    Assertions.assertThrows(BufferOverflowException.class,
+      () -> negative.renderTo(tight, Boolean.FALSE));
+
+    Assertions.assertEquals(0, tight.position());
+
+    Assertions.assertEquals(StandardCharsets.UTF_8.encode(expected),
+      negative.renderTo(ByteBuffer.allocate(256), Boolean.FALSE).flip());
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("renderTo() method should write the statement into the given rope's segments.")
+  final void renderToMethod_shouldWrite_statement_intoRopeSegments() throws IOException {
+    // Arrange
+    final var ids = new long[4_096];
+    for (var i = 0; i < ids.length; i++) {
+      ids[i] = i * 31L;
+    }
+    final var expected = Query.delete(Single.of(TABLE_1))
+      .where(Single.of(FIELD_1), Multiple.of(ids))
+      .build();
+    final var rope = new Rope(1_000);
+    // Act
+    final var result = Query.delete(Single.of(TABLE_1))
+      .where(Single.of(FIELD_1), Multiple.of(ids))
+      .renderTo(rope);
+    // Assert
+    Assertions.assertSame(rope, result);
+
+    Assertions.assertEquals(expected.length(), result.length());
+
+    Assertions.assertEquals(expected, result.toString());
+
+    Assertions.assertEquals(expected.charAt(12_345), result.charAt(12_345));
+
+    Assertions.assertEquals(expected.substring(995, 1_010),
+      result.subSequence(995, 1_010).toString());
+
+    final var read = new StringWriter();
+    result.reader().transferTo(read);
+
+    Assertions.assertEquals(expected, read.toString());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new Rope(0));
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("writeTo() method should encode the rope as UTF-8 into the given channel.")
+  final void writeToMethod_shouldEncode_rope_intoGivenChannel(@TempDir final Path directory)
+    throws IOException {
+    // Arrange
+    final var rope = new Rope(3);
+    Query.select(Single.identifier(TABLE_1), Single.identifier("f\u00EDeld_1"))
+      .where(Single.of(FIELD_2), Multiple.of("a\uD83D\uDE00\uD83D\uDE00", "\uD83D", "\u00E7"))
+      .renderTo(rope);
+    final var expected = rope.toString().getBytes(StandardCharsets.UTF_8);
+    final var file = directory.resolve("statement.sql");
+    // Act
+    final long written;
+    try (final var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+      StandardOpenOption.WRITE)) {
+      written = rope.writeTo(channel);
+
+      Assertions.assertEquals(0L, new Rope().writeTo(channel));
+    }
+    // Assert
+    Assertions.assertEquals(expected.length, written);
+
+    Assertions.assertArrayEquals(expected, Files.readAllBytes(file));
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("renderTo() method should render large lists concurrently, keeping their order.")
+  final void renderToMethod_shouldRender_largeLists_concurrently() {
+    // Arrange
+    final var ids = new long[10_000];
+    final var names = new String[ids.length];
+    final var rows = new Field[ids.length];
+    for (var i = 0; i < ids.length; i++) {
+      ids[i] = i * 31L;
+      names[i] = "name_" + i;
+      rows[i] = Multiple.of(ids[i], i);
+    }
+    final var pool = new ForkJoinPool(4);
+    // Act
+    final var select = Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(ids))
+      .and(Single.of(FIELD_2), Multiple.of(names[0], names))
+      .renderTo(new Rope(1_000).parallel(pool, 512));
+    final var insert = Query.insert(Single.of(TABLE_1))
+      .values(rows[0], Arrays.copyOfRange(rows, 1, rows.length))
+      .renderTo(new Rope().parallel(pool, 512));
+    // Assert
+    Assertions.assertEquals(Query.select(Single.of(TABLE_1), Single.of(FIELD_1))
+      .where(Single.of(FIELD_1), Multiple.of(ids))
+      .and(Single.of(FIELD_2), Multiple.of(names[0], names))
+      .build(), select.toString());
+
+    Assertions.assertEquals(Query.insert(Single.of(TABLE_1))
+      .values(rows[0], Arrays.copyOfRange(rows, 1, rows.length))
+      .build(), insert.toString());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new Rope().parallel(pool, 0));
+
+    pool.shutdown();
+  }
 }
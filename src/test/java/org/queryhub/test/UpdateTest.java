@@ -1,5 +1,10 @@
 package org.queryhub.test;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -55,4 +60,72 @@ final class UpdateTest extends BaseTest {
     // Assert
     Assertions.assertEquals(QUERY, result);
   }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should write UPDATE query setting only the changed columns.")
+  final void shouldWrite_updateQuery_settingOnly_changedColumns() {
+    // Arrange
+    final var before = new LinkedHashMap<Single, Single>();
+    before.put(Single.of(FIELD_1), Single.of(1L));
+    before.put(Single.of(FIELD_2), Single.of(VALUE_1));
+    before.put(Single.of(TABLE_2), Single.of(VALUE_1));
+    final var after = new LinkedHashMap<Single, Single>();
+    after.put(Single.identifier(TABLE_2), Single.of(VALUE_2));
+    after.put(Single.of(FIELD_1), Single.of(1L));
+    after.put(Single.of(FIELD_2), Single.of(VALUE_2));
+    // Act
+    final var result = Query.update(Single.of(TABLE_1), before, after)
+      .map(update -> update.where(Single.of(FIELD_1), Single.of(1L)).build());
+    final var single = Query.update(Single.of(TABLE_1), Map.of(), Map.of(Single.of(FIELD_1),
+      Single.of(2L))).map(update -> update.build(Boolean.FALSE));
+    // Assert
+    Assertions.assertEquals(Optional.of("UPDATE 'table_1' SET 'field_2' = 'value_2' , "
+      + "'table_2' = 'value_2' WHERE 'field_1' IN (1);"), result);
+
+    Assertions.assertEquals(Optional.of("UPDATE 'table_1' SET 'field_1' = 2"), single);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should write UPDATE query setting the changed columns sorted by their names.")
+  final void shouldWrite_updateQuery_settingChangedColumns_sortedByName() {
+    // Arrange
+    final var before = new HashMap<Single, Single>();
+    final var after = new HashMap<Single, Single>();
+    final var expected = new TreeMap<String, String>();
+    for (var i = 1; i <= 12; i++) {
+      before.put(Single.of("c" + i), Single.of(0L));
+      after.put(Single.of("c" + i), Single.of((long) i));
+      expected.put("'c" + i + "'", "'c" + i + "' = " + i);
+    }
+    // Act
+    final var result = Query.update(Single.of(TABLE_1), before, after)
+      .map(update -> update.build(Boolean.FALSE));
+    // Assert
+    Assertions.assertEquals(Optional.of("UPDATE 'table_1' SET "
+      + String.join(" , ", expected.values())), result);
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  @Test
+  @DisplayName("Should skip UPDATE query when no column has changed.")
+  final void shouldSkip_updateQuery_whenNoColumnHasChanged() {
+    // Arrange
+    final var before = Map.of(Single.of(FIELD_1), Single.of(1L), Single.of(FIELD_2),
+      Single.of(VALUE_1));
+    final var after = Map.of(Single.of(FIELD_1), Single.of(1L));
+    // Act
+    final var result = Query.update(Single.of(TABLE_1), before, after);
+    // Assert
+    Assertions.assertTrue(result.isEmpty());
+
+    Assertions.assertTrue(Query.update(Single.of(TABLE_1), before, Map.of()).isEmpty());
+  }
 }